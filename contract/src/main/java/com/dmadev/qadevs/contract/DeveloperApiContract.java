@@ -0,0 +1,245 @@
+package com.dmadev.qadevs.contract;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Paths, payloads and status codes every implementation of the developer API answers with. An integration test
+ * of each application implements it and points {@link #baseUri()} at its running server; the requests go over
+ * real HTTP, so the same cases hold the servlet and the reactive variant to one contract. Emails are unique per
+ * request, so the cases do not depend on what else is in the table.
+ */
+public interface DeveloperApiContract {
+
+    String PATH_API_V1_DEVELOPERS = "/api/v1/developers";
+    HttpClient HTTP_CLIENT = HttpClient.newHttpClient();
+    ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Scheme, host and port of the server under test.
+     */
+    URI baseUri();
+
+    @Test
+    @DisplayName("Contract: create developer functionality")
+    default void givenDeveloper_whenCreateDeveloper_thenActiveDeveloperIsReturned() throws Exception {
+        //given
+        ObjectNode developer = newDeveloper("Contract.Create");
+
+        //when
+        HttpResponse<String> response = send("POST", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode created = OBJECT_MAPPER.readTree(response.body());
+        assertThat(created.path("id").isInt()).isTrue();
+        assertThat(created.path("email").asText()).isEqualTo(developer.get("email").asText().toLowerCase(Locale.ROOT));
+        assertThat(created.path("specialty").asText()).isEqualTo("java");
+        assertThat(created.path("status").asText()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Contract: create developer with duplicate email functionality")
+    default void givenTakenEmail_whenCreateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        ObjectNode developer = newDeveloper("Contract.Duplicate");
+        send("POST", PATH_API_V1_DEVELOPERS, developer);
+
+        //when
+        HttpResponse<String> response = send("POST", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertError(response, 400);
+    }
+
+    @Test
+    @DisplayName("Contract: get developer by id functionality")
+    default void givenCreatedDeveloper_whenGetById_thenDeveloperIsReturned() throws Exception {
+        //given
+        int id = create(newDeveloper("Contract.Get"));
+
+        //when
+        HttpResponse<String> response = send("GET", PATH_API_V1_DEVELOPERS + "/" + id, null);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(OBJECT_MAPPER.readTree(response.body()).path("id").asInt()).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("Contract: get developer by incorrect id functionality")
+    default void givenIncorrectId_whenGetById_thenErrorResponse() throws Exception {
+        //when
+        HttpResponse<String> response = send("GET", PATH_API_V1_DEVELOPERS + "/" + Integer.MAX_VALUE, null);
+
+        //then
+        assertError(response, 404);
+    }
+
+    @Test
+    @DisplayName("Contract: update developer functionality")
+    default void givenCreatedDeveloper_whenUpdateDeveloper_thenUpdatedDeveloperIsReturned() throws Exception {
+        //given
+        ObjectNode developer = newDeveloper("Contract.Update");
+        developer.put("id", create(developer));
+        developer.put("lastName", "Updated");
+        developer.put("specialty", "kotlin");
+
+        //when
+        HttpResponse<String> response = send("PUT", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode updated = OBJECT_MAPPER.readTree(response.body());
+        assertThat(updated.path("lastName").asText()).isEqualTo("Updated");
+        assertThat(updated.path("specialty").asText()).isEqualTo("kotlin");
+    }
+
+    @Test
+    @DisplayName("Contract: update developer without status functionality")
+    default void givenCreatedDeveloper_whenUpdateWithoutStatus_thenStatusIsKept() throws Exception {
+        //given
+        ObjectNode developer = newDeveloper("Contract.NoStatus");
+        developer.put("id", create(developer));
+        developer.put("lastName", "Updated");
+        developer.remove("status");
+
+        //when
+        HttpResponse<String> response = send("PUT", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode updated = OBJECT_MAPPER.readTree(response.body());
+        assertThat(updated.path("lastName").asText()).isEqualTo("Updated");
+        assertThat(updated.path("status").asText()).isEqualTo("ACTIVE");
+    }
+
+    @Test
+    @DisplayName("Contract: update developer with incorrect id functionality")
+    default void givenIncorrectId_whenUpdateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        ObjectNode developer = newDeveloper("Contract.Missing");
+        developer.put("id", Integer.MAX_VALUE);
+
+        //when
+        HttpResponse<String> response = send("PUT", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertError(response, 400);
+    }
+
+    @Test
+    @DisplayName("Contract: update developer with duplicate email functionality")
+    default void givenTakenEmail_whenUpdateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        ObjectNode taken = newDeveloper("Contract.Taken");
+        create(taken);
+        ObjectNode developer = newDeveloper("Contract.Changing");
+        developer.put("id", create(developer));
+        developer.put("email", taken.get("email").asText());
+
+        //when
+        HttpResponse<String> response = send("PUT", PATH_API_V1_DEVELOPERS, developer);
+
+        //then
+        assertError(response, 400);
+    }
+
+    @Test
+    @DisplayName("Contract: get all developers by specialty functionality")
+    default void givenDeveloperWithNewSpecialty_whenGetAllBySpecialty_thenOnlyThatDeveloperIsReturned() throws Exception {
+        //given
+        String specialty = "contract-" + UUID.randomUUID();
+        ObjectNode developer = newDeveloper("Contract.Specialty");
+        developer.put("specialty", specialty);
+        int id = create(developer);
+
+        //when
+        HttpResponse<String> response = send("GET", PATH_API_V1_DEVELOPERS + "/specialty/" + specialty.toUpperCase(Locale.ROOT), null);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode developers = OBJECT_MAPPER.readTree(response.body());
+        assertThat(developers.size()).isEqualTo(1);
+        assertThat(developers.get(0).path("id").asInt()).isEqualTo(id);
+        assertThat(developers.get(0).path("specialty").asText()).isEqualTo(specialty);
+    }
+
+    @Test
+    @DisplayName("Contract: soft delete developer functionality")
+    default void givenCreatedDeveloper_whenSoftDelete_thenSecondSoftDeleteIsAnError() throws Exception {
+        //given
+        int id = create(newDeveloper("Contract.Soft"));
+
+        //when
+        HttpResponse<String> response = send("DELETE", PATH_API_V1_DEVELOPERS + "/" + id, null);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        JsonNode deleted = OBJECT_MAPPER.readTree(send("GET", PATH_API_V1_DEVELOPERS + "/" + id, null).body());
+        assertThat(deleted.path("status").asText()).isEqualTo("DELETED");
+        assertError(send("DELETE", PATH_API_V1_DEVELOPERS + "/" + id, null), 400);
+    }
+
+    @Test
+    @DisplayName("Contract: hard delete developer functionality")
+    default void givenCreatedDeveloper_whenHardDelete_thenDeveloperIsGone() throws Exception {
+        //given
+        int id = create(newDeveloper("Contract.Hard"));
+
+        //when
+        HttpResponse<String> response = send("DELETE", PATH_API_V1_DEVELOPERS + "/" + id + "?isHard=true", null);
+
+        //then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertError(send("GET", PATH_API_V1_DEVELOPERS + "/" + id, null), 404);
+        assertError(send("DELETE", PATH_API_V1_DEVELOPERS + "/" + id + "?isHard=true", null), 400);
+    }
+
+    private ObjectNode newDeveloper(String firstName) {
+        return OBJECT_MAPPER.createObjectNode()
+                .put("firstName", firstName)
+                .put("lastName", "Developer")
+                .put("email", "%s.%s@Contract.dev".formatted(firstName, UUID.randomUUID()))
+                .put("specialty", "java")
+                .put("status", "ACTIVE");
+    }
+
+    private int create(ObjectNode developer) throws IOException, InterruptedException {
+        HttpResponse<String> response = send("POST", PATH_API_V1_DEVELOPERS, developer);
+        assertThat(response.statusCode()).isEqualTo(200);
+        return OBJECT_MAPPER.readTree(response.body()).path("id").asInt();
+    }
+
+    private HttpResponse<String> send(String method, String path, JsonNode body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body));
+        return HTTP_CLIENT.send(HttpRequest.newBuilder(baseUri().resolve(path))
+                        .header("Content-Type", "application/json")
+                        .header("Accept", "application/json")
+                        .method(method, publisher)
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void assertError(HttpResponse<String> response, int status) throws IOException {
+        assertThat(response.statusCode()).isEqualTo(status);
+        JsonNode error = OBJECT_MAPPER.readTree(response.body());
+        assertThat(error.path("status").asInt()).isEqualTo(status);
+        assertThat(error.path("message").asText()).isNotBlank();
+    }
+}
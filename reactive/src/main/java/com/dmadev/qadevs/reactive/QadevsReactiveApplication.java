@@ -0,0 +1,17 @@
+package com.dmadev.qadevs.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Non-blocking variant of the developer API on WebFlux and R2DBC. It works on the same
+ * {@code developers} table as the servlet application, whose migrations own the schema.
+ */
+@SpringBootApplication
+public class QadevsReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(QadevsReactiveApplication.class, args);
+    }
+
+}
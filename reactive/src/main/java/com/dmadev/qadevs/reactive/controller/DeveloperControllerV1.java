@@ -0,0 +1,101 @@
+package com.dmadev.qadevs.reactive.controller;
+
+import com.dmadev.qadevs.reactive.dto.DeveloperDto;
+import com.dmadev.qadevs.reactive.dto.ErrorDto;
+import com.dmadev.qadevs.reactive.entity.Status;
+import com.dmadev.qadevs.reactive.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.reactive.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.reactive.service.DeveloperService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same paths, payloads and status codes as the servlet {@code DeveloperControllerV1}. List endpoints
+ * stream their elements: a JSON array by default, one document per line for {@code application/x-ndjson}.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/developers")
+public class DeveloperControllerV1 {
+
+    private final DeveloperService developerService;
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> createDeveloper(@RequestBody DeveloperDto dto) {
+        return developerService.saveDeveloper(dto.toEntity())
+                .<ResponseEntity<?>>map(createdDeveloper -> ResponseEntity.ok(DeveloperDto.fromEntity(createdDeveloper)))
+                .onErrorResume(DeveloperWithDuplicateEmailException.class,
+                        exception -> error(400, exception.getMessage()));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<?>> updateDeveloper(@RequestBody DeveloperDto dto) {
+        return developerService.updateDeveloper(dto.toEntity())
+                .<ResponseEntity<?>>map(updatedDeveloper -> ResponseEntity.ok(DeveloperDto.fromEntity(updatedDeveloper)))
+                .onErrorResume(DeveloperNotFoundException.class,
+                        exception -> error(400, exception.getMessage()))
+                .onErrorResume(DeveloperWithDuplicateEmailException.class,
+                        exception -> error(400, exception.getMessage()));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getDeveloperById(@PathVariable("id") Integer id) {
+        return developerService.getDeveloperById(id)
+                .<ResponseEntity<?>>map(developer -> ResponseEntity.ok(DeveloperDto.fromEntity(developer)))
+                .onErrorResume(DeveloperNotFoundException.class,
+                        exception -> error(404, exception.getMessage()));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperDto> getAllDevelopers() {
+        return developerService.getAllDevelopers()
+                .map(DeveloperDto::fromEntity);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DeveloperDto> exportDevelopers(@RequestParam(value = "status", defaultValue = "ACTIVE") Status status) {
+        return developerService.exportDevelopers(status)
+                .map(DeveloperDto::fromEntity);
+    }
+
+    @GetMapping(value = "/specialty/{specialty}",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DeveloperDto> getAllDevelopersBySpecialty(@PathVariable("specialty") String specialty) {
+        return developerService.getAllActiveBySpecialty(specialty)
+                .map(DeveloperDto::fromEntity);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<?>> deleteDeveloperById(@PathVariable("id") Integer id,
+                                                       @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        Mono<Void> deletion = isHard
+                ? developerService.hardDeleteById(id)
+                : developerService.softDeleteById(id);
+        return deletion
+                .then(Mono.<ResponseEntity<?>>fromSupplier(() -> ResponseEntity.ok().build()))
+                .onErrorResume(DeveloperNotFoundException.class,
+                        exception -> error(400, exception.getMessage()));
+    }
+
+    private static Mono<ResponseEntity<?>> error(int status, String message) {
+        return Mono.just(ResponseEntity.status(status)
+                .body(ErrorDto.builder()
+                        .status(status)
+                        .message(message)
+                        .build()));
+    }
+
+    //eof
+}
@@ -0,0 +1,45 @@
+package com.dmadev.qadevs.reactive.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("developers")
+public class DeveloperEntity {
+
+    @Id
+    private Integer id;
+
+    private String email;
+
+    private String firstName;
+
+    private String lastName;
+
+    /**
+     * Name from the {@code specialties} dictionary; the row itself stores {@code specialty_id}, see the repository.
+     */
+    private String specialty;
+
+    private Status status;
+
+    /**
+     * Optimistic locking counter owned by the servlet application; every write from this side bumps it
+     * in SQL so a client holding an older ETag there still gets its conflict.
+     */
+    private Integer version;
+
+    /**
+     * Change feed position of the row, see the servlet application.
+     */
+    private Instant updatedAt;
+}
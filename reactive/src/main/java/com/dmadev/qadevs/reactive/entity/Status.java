@@ -0,0 +1,5 @@
+package com.dmadev.qadevs.reactive.entity;
+
+public enum Status {
+    ACTIVE,DELETED
+}
@@ -0,0 +1,7 @@
+package com.dmadev.qadevs.reactive.exception;
+
+public class DeveloperNotFoundException extends RuntimeException{
+    public DeveloperNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.dmadev.qadevs.reactive.exception;
+
+public class DeveloperWithDuplicateEmailException extends RuntimeException{
+    public DeveloperWithDuplicateEmailException(String message) {
+        super(message);
+    }
+}
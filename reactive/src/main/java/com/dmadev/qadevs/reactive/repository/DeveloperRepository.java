@@ -0,0 +1,118 @@
+package com.dmadev.qadevs.reactive.repository;
+
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public interface DeveloperRepository extends ReactiveCrudRepository<DeveloperEntity, Integer> {
+
+    /**
+     * Developers reference the {@code specialties} dictionary of the servlet application by id; reads join
+     * the name back in under the {@code specialty} column the entity maps.
+     */
+    String SELECT_DEVELOPERS = "SELECT d.*, s.name AS specialty FROM developers d " +
+            "LEFT JOIN specialties s ON s.id = d.specialty_id ";
+
+    /**
+     * Resolves {@code :specialty} to the {@code specialty} CTE, registering the name when it is new. Names match
+     * case-insensitively, like in the servlet application.
+     * <p>
+     * A name the statement's snapshot does not see yet is inserted. If a concurrent transaction registered it
+     * meanwhile, {@code DO NOTHING} would return no row and the snapshot could not see the other row either, so
+     * the developer would be written without a specialty. {@code DO UPDATE} waits for that transaction and
+     * returns its row instead; names that are already visible never reach the insert, so known specialties are
+     * not locked by every write.
+     */
+    String WITH_SPECIALTY = "WITH existing_specialty AS (" +
+            "SELECT id, name FROM specialties WHERE name_key = lower(trim(CAST(:specialty AS VARCHAR)))), " +
+            "new_specialty AS (" +
+            "INSERT INTO specialties (name, name_key) " +
+            "SELECT trim(CAST(:specialty AS VARCHAR)), lower(trim(CAST(:specialty AS VARCHAR))) " +
+            "WHERE CAST(:specialty AS VARCHAR) IS NOT NULL AND NOT EXISTS (SELECT 1 FROM existing_specialty) " +
+            "ON CONFLICT (name_key) DO UPDATE SET name_key = EXCLUDED.name_key RETURNING id, name), " +
+            "specialty AS (SELECT id, name FROM existing_specialty UNION ALL SELECT id, name FROM new_specialty) ";
+
+    /**
+     * Every write also records its change in the servlet application's {@code outbox_events}, in the same
+     * statement, so the outbox dispatcher sees changes made through either stack. Each row takes one value of
+     * {@code outbox_events_seq}, which Hibernate treats as the top of a block of 50, so the id never collides
+     * with ids Hibernate hands out.
+     */
+    String INSERT_OUTBOX = "INSERT INTO outbox_events (id, developer_id, type, payload, created_at) ";
+
+    /**
+     * The developer of the {@code changed} CTE as the servlet application's {@code DeveloperDto} serializes it.
+     */
+    String CHANGED_PAYLOAD = "CAST(json_strip_nulls(json_build_object('id', changed.id, " +
+            "'firstName', changed.first_name, 'lastName', changed.last_name, 'email', changed.email, " +
+            "'specialty', specialty.name, 'status', changed.status)) AS VARCHAR)";
+
+    /**
+     * Inserts a new active developer. The id is taken from the same {@code developers_seq} sequence the
+     * servlet application allocates from, so rows written by both stacks never collide.
+     */
+    @Query(WITH_SPECIALTY + ", changed AS (" +
+            "INSERT INTO developers (id, email, first_name, last_name, specialty_id, status, updated_at) " +
+            "VALUES (nextval('developers_seq'), :email, :firstName, :lastName, (SELECT id FROM specialty), 'ACTIVE', " +
+            ":updatedAt) RETURNING *), " +
+            "outbox AS (" + INSERT_OUTBOX + "SELECT nextval('outbox_events_seq'), changed.id, 'CREATED', " +
+            CHANGED_PAYLOAD + ", :updatedAt FROM changed LEFT JOIN specialty ON specialty.id = changed.specialty_id) " +
+            "SELECT changed.*, specialty.name AS specialty FROM changed LEFT JOIN specialty ON specialty.id = changed.specialty_id")
+    Mono<DeveloperEntity> insert(String email, String firstName, String lastName, String specialty, Instant updatedAt);
+
+    /**
+     * The count is that of the outbox rows written, one per updated developer.
+     */
+    @Modifying
+    @Query(WITH_SPECIALTY + ", changed AS (" +
+            "UPDATE developers SET email = :email, first_name = :firstName, last_name = :lastName, " +
+            "specialty_id = (SELECT id FROM specialty), status = COALESCE(CAST(:status AS VARCHAR), status), " +
+            "version = version + 1, " +
+            "updated_at = :updatedAt WHERE id = :id RETURNING *) " +
+            INSERT_OUTBOX + "SELECT nextval('outbox_events_seq'), changed.id, 'UPDATED', " + CHANGED_PAYLOAD +
+            ", :updatedAt FROM changed LEFT JOIN specialty ON specialty.id = changed.specialty_id")
+    Mono<Integer> updateById(Integer id, String email, String firstName, String lastName, String specialty,
+                             Status status, Instant updatedAt);
+
+    @Override
+    @Query(SELECT_DEVELOPERS + "WHERE d.id = :id")
+    Mono<DeveloperEntity> findById(Integer id);
+
+    @Query(SELECT_DEVELOPERS + "WHERE d.email = :email")
+    Mono<DeveloperEntity> findByEmail(String email);
+
+    @Query("SELECT d.*, s.name AS specialty FROM developers d JOIN specialties s ON s.id = d.specialty_id " +
+            "WHERE d.status = 'ACTIVE' AND s.name_key = lower(trim(:specialty))")
+    Flux<DeveloperEntity> findAllActiveBySpecialty(String specialty);
+
+    @Query(SELECT_DEVELOPERS + "WHERE d.status = :status")
+    Flux<DeveloperEntity> findAllByStatus(Status status);
+
+    @Query(SELECT_DEVELOPERS + "WHERE d.status = :status ORDER BY d.id")
+    Flux<DeveloperEntity> findAllByStatusOrderById(Status status);
+
+    /**
+     * The count is that of the outbox rows written, one per deleted developer.
+     */
+    @Modifying
+    @Query("WITH changed AS (UPDATE developers SET status = 'DELETED', version = version + 1, updated_at = :updatedAt " +
+            "WHERE id = :id AND status = 'ACTIVE' RETURNING id) " +
+            INSERT_OUTBOX + "SELECT nextval('outbox_events_seq'), id, 'SOFT_DELETED', NULL, :updatedAt FROM changed")
+    Mono<Integer> softDeleteById(Integer id, Instant updatedAt);
+
+    /**
+     * Deletes the row and leaves its change feed tombstone and outbox event in one statement; the count is that
+     * of deleted rows.
+     */
+    @Modifying
+    @Query("WITH deleted AS (DELETE FROM developers WHERE id = :id RETURNING id), " +
+            "tombstone AS (INSERT INTO developer_tombstones (developer_id, deleted_at) SELECT id, :deletedAt FROM deleted) " +
+            INSERT_OUTBOX + "SELECT nextval('outbox_events_seq'), id, 'HARD_DELETED', NULL, :deletedAt FROM deleted")
+    Mono<Integer> hardDeleteById(Integer id, Instant deletedAt);
+}
@@ -0,0 +1,27 @@
+package com.dmadev.qadevs.reactive.service;
+
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface DeveloperService {
+
+    Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developer);
+
+    Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer);
+
+    Mono<DeveloperEntity> getDeveloperById(Integer id);
+
+    Mono<DeveloperEntity> getDeveloperByEmail(String email);
+
+    Flux<DeveloperEntity> getAllDevelopers();
+
+    Flux<DeveloperEntity> exportDevelopers(Status status);
+
+    Flux<DeveloperEntity> getAllActiveBySpecialty(String specialty);
+
+    Mono<Void> softDeleteById(Integer id);
+
+    Mono<Void> hardDeleteById(Integer id);
+}
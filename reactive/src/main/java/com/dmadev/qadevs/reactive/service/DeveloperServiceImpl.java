@@ -0,0 +1,125 @@
+package com.dmadev.qadevs.reactive.service;
+
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import com.dmadev.qadevs.reactive.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.reactive.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.reactive.repository.DeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class DeveloperServiceImpl implements DeveloperService {
+
+    private static final int EXPORT_PREFETCH = 500;
+    private static final String DUPLICATE_EMAIL_MESSAGE = "Developer with defined email is already exists";
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_developers_email";
+
+    private final DeveloperRepository developerRepository;
+
+    @Override
+    public Mono<DeveloperEntity> saveDeveloper(DeveloperEntity developer) {
+        return developerRepository.insert(normalizeEmail(developer.getEmail()), developer.getFirstName(),
+                        developer.getLastName(), developer.getSpecialty(), changeTime())
+                .onErrorMap(DataIntegrityViolationException.class, DeveloperServiceImpl::translateDuplicateEmail);
+    }
+
+    /**
+     * Updates in one statement that also bumps the version column, since a plain {@code save} would neither
+     * know the current version nor increment it. An omitted status keeps the current one.
+     */
+    @Override
+    public Mono<DeveloperEntity> updateDeveloper(DeveloperEntity developer) {
+        return developerRepository.updateById(developer.getId(), normalizeEmail(developer.getEmail()),
+                        developer.getFirstName(), developer.getLastName(), developer.getSpecialty(), developer.getStatus(),
+                        changeTime())
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new DeveloperNotFoundException(
+                                "Developer with id: %d is not exist".formatted(developer.getId())))
+                        : developerRepository.findById(developer.getId()))
+                .onErrorMap(DataIntegrityViolationException.class, DeveloperServiceImpl::translateDuplicateEmail);
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getDeveloperById(Integer id) {
+        return developerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() ->
+                        new DeveloperNotFoundException("Developer with id: %d is not exist".formatted(id))));
+    }
+
+    @Override
+    public Mono<DeveloperEntity> getDeveloperByEmail(String email) {
+        return developerRepository.findByEmail(normalizeEmail(email))
+                .switchIfEmpty(Mono.error(() ->
+                        new DeveloperNotFoundException("Developer with  email %s is not exist".formatted(email))));
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllDevelopers() {
+        return developerRepository.findAllByStatus(Status.ACTIVE);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> exportDevelopers(Status status) {
+        // bounded demand: a slow client stops the driver from reading further rows off the socket
+        return developerRepository.findAllByStatusOrderById(status)
+                .limitRate(EXPORT_PREFETCH);
+    }
+
+    @Override
+    public Flux<DeveloperEntity> getAllActiveBySpecialty(String specialty) {
+        return developerRepository.findAllActiveBySpecialty(specialty);
+    }
+
+    @Override
+    public Mono<Void> softDeleteById(Integer id) {
+        return developerRepository.softDeleteById(id, changeTime())
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new DeveloperNotFoundException("Developer with id: %d not found".formatted(id)))
+                        : Mono.empty());
+    }
+
+    @Override
+    public Mono<Void> hardDeleteById(Integer id) {
+        return developerRepository.hardDeleteById(id, changeTime())
+                .flatMap(deleted -> deleted == 0
+                        ? Mono.error(new DeveloperNotFoundException("Developer with id: %d not found".formatted(id)))
+                        : Mono.empty());
+    }
+
+    /**
+     * Change time of a write, at the precision the column stores.
+     */
+    private static Instant changeTime() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Emails are stored lower-cased so the unique index on the column is effectively case-insensitive.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The R2DBC driver does not expose the violated constraint separately, so its name is looked up
+     * in the messages of the exception chain.
+     */
+    private static Throwable translateDuplicateEmail(DataIntegrityViolationException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null
+                    && cause.getMessage().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_CONSTRAINT)) {
+                return new DeveloperWithDuplicateEmailException(DUPLICATE_EMAIL_MESSAGE);
+            }
+        }
+        return exception;
+    }
+}
@@ -0,0 +1,243 @@
+package com.dmadev.qadevs.reactive.controller;
+
+import com.dmadev.qadevs.reactive.dto.DeveloperDto;
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import com.dmadev.qadevs.reactive.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.reactive.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.reactive.service.DeveloperService;
+import com.dmadev.qadevs.reactive.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+@WebFluxTest
+class DeveloperControllerV1Test {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private DeveloperService developerService;
+
+    final private static int badRequestStatus = 400;
+    final private static int notFoundRequestStatus = 404;
+    final private String pathApiV1Developers = "/api/v1/developers";
+
+    @Test
+    @DisplayName("Test create developer functionality")
+    public void givenDeveloperDto_whenCreateDeveloper_thenSuccessResponse() {
+        //given
+        DeveloperDto johnDoeDtoPersisted = DataUtils.getJohnDoeDtoPersisted();
+        BDDMockito.given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+                .willReturn(Mono.just(DataUtils.getJohnDoePersisted()));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post()
+                .uri(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(johnDoeDtoPersisted)
+                .exchange();
+
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.firstName").isEqualTo(johnDoeDtoPersisted.getFirstName())
+                .jsonPath("$.lastName").isEqualTo(johnDoeDtoPersisted.getLastName())
+                .jsonPath("$.status").isEqualTo(johnDoeDtoPersisted.getStatus().toString());
+    }
+
+    @Test
+    @DisplayName("Test create developer with duplicate email functionality")
+    public void givenDeveloperDtoWithDuplicateEmail_whenCreateDeveloper_thenErrorResponse() {
+        //given
+        String message = "Developer with defined email is already exist";
+        BDDMockito.given(developerService.saveDeveloper(any(DeveloperEntity.class)))
+                .willReturn(Mono.error(new DeveloperWithDuplicateEmailException(message)));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.post()
+                .uri(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DataUtils.getJohnDoeDtoTransient())
+                .exchange();
+
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(badRequestStatus)
+                .jsonPath("$.message").isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Test update developer with incorrect id functionality")
+    public void givenDeveloperDtoWithIncorrectId_whenUpdateDeveloper_thenErrorResponse() {
+        //given
+        String message = "Developer with id: 1 is not exist";
+        BDDMockito.given(developerService.updateDeveloper(any(DeveloperEntity.class)))
+                .willReturn(Mono.error(new DeveloperNotFoundException(message)));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.put()
+                .uri(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(DataUtils.getJohnDoeDtoPersisted())
+                .exchange();
+
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(badRequestStatus)
+                .jsonPath("$.message").isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Test get developer by id functionality")
+    public void givenId_whenGetById_thenSuccessResponse() {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(Mono.just(DataUtils.getJohnDoePersisted()));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(pathApiV1Developers + "/1")
+                .exchange();
+
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.email").isEqualTo("john.doe@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Test get developer by incorrect id functionality")
+    public void givenIncorrectId_whenGetById_thenErrorResponse() {
+        //given
+        String message = "Developer with id: 1 is not exist";
+        BDDMockito.given(developerService.getDeveloperById(anyInt()))
+                .willReturn(Mono.error(new DeveloperNotFoundException(message)));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(pathApiV1Developers + "/1")
+                .exchange();
+
+        //then
+        response.expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(notFoundRequestStatus)
+                .jsonPath("$.message").isEqualTo(message);
+    }
+
+    @Test
+    @DisplayName("Test get all developers functionality")
+    public void givenDevelopers_whenGetAllDevelopers_thenJsonArrayIsReturned() {
+        //given
+        BDDMockito.given(developerService.getAllDevelopers())
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(pathApiV1Developers)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].email").isEqualTo("mike.smith@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Test export developers functionality")
+    public void givenDevelopers_whenExportDevelopers_thenNdjsonIsStreamed() {
+        //given
+        BDDMockito.given(developerService.exportDevelopers(Status.ACTIVE))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+
+        //when
+        Flux<DeveloperDto> body = webTestClient.get()
+                .uri(pathApiV1Developers + "/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(DeveloperDto.class)
+                .getResponseBody();
+
+        //then
+        StepVerifier.create(body)
+                .expectNextMatches(developer -> developer.getId() == 1)
+                .expectNextMatches(developer -> developer.getId() == 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test get all developers by specialty functionality")
+    public void givenSpecialty_whenGetAllDevelopersBySpecialty_thenSuccessResponse() {
+        //given
+        BDDMockito.given(developerService.getAllActiveBySpecialty("java"))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted()));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.get()
+                .uri(pathApiV1Developers + "/specialty/java")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange();
+
+        //then
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].specialty").isEqualTo("java");
+    }
+
+    @Test
+    @DisplayName("Test soft delete by id functionality")
+    public void givenId_whenSoftDelete_thenSuccessResponse() {
+        //given
+        BDDMockito.given(developerService.softDeleteById(anyInt())).willReturn(Mono.empty());
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.delete()
+                .uri(pathApiV1Developers + "/1")
+                .exchange();
+
+        //then
+        response.expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Test hard delete by incorrect id functionality")
+    public void givenIncorrectId_whenHardDelete_thenErrorResponse() {
+        //given
+        String message = "Developer with id: 1 not found";
+        BDDMockito.given(developerService.hardDeleteById(anyInt()))
+                .willReturn(Mono.error(new DeveloperNotFoundException(message)));
+
+        //when
+        WebTestClient.ResponseSpec response = webTestClient.delete()
+                .uri(pathApiV1Developers + "/1?isHard=true")
+                .exchange();
+
+        //then
+        response.expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(badRequestStatus)
+                .jsonPath("$.message").isEqualTo(message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.dmadev.qadevs.reactive.it;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+/**
+ * A PostgreSQL container with the servlet application's migrations applied, since that application owns the
+ * schema; the location of its scripts is passed in by the build as {@code qadevs.migrations}.
+ */
+public abstract class AbstractPostgresTest {
+    @Container
+    static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER;
+
+    static {
+        POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:latest")
+                .withUsername("dmadev")
+                .withPassword("password")
+                .withDatabaseName("qadevs_reactive");
+        POSTGRE_SQL_CONTAINER.start();
+        Flyway.configure()
+                .dataSource(POSTGRE_SQL_CONTAINER.getJdbcUrl(), POSTGRE_SQL_CONTAINER.getUsername(),
+                        POSTGRE_SQL_CONTAINER.getPassword())
+                .locations("filesystem:" + System.getProperty("qadevs.migrations"))
+                .load()
+                .migrate();
+    }
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(POSTGRE_SQL_CONTAINER.getHost(),
+                POSTGRE_SQL_CONTAINER.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT),
+                POSTGRE_SQL_CONTAINER.getDatabaseName()));
+        registry.add("spring.r2dbc.username", POSTGRE_SQL_CONTAINER::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRE_SQL_CONTAINER::getPassword);
+    }
+}
@@ -0,0 +1,201 @@
+package com.dmadev.qadevs.reactive.it;
+
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import com.dmadev.qadevs.reactive.repository.DeveloperRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The hand-written SQL of the repository against PostgreSQL: the specialty CTE, the version bump, the
+ * tombstone written by a hard delete and the outbox events every write records.
+ */
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ItDeveloperRepositoryTest extends AbstractPostgresTest {
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private ReactiveTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Test insert developer registers specialty functionality")
+    public void givenNewSpecialty_whenInsert_thenDeveloperIsReturnedWithRegisteredSpecialty() {
+        //given
+        String specialty = "Insert-" + UUID.randomUUID();
+
+        //when
+        DeveloperEntity inserted = insert(uniqueEmail(), "  " + specialty + " ").block();
+
+        //then
+        assertThat(inserted).isNotNull();
+        assertThat(inserted.getId()).isNotNull();
+        assertThat(inserted.getSpecialty()).isEqualTo(specialty);
+        assertThat(inserted.getStatus()).isEqualTo(Status.ACTIVE);
+        assertThat(inserted.getVersion()).isZero();
+        assertThat(insert(uniqueEmail(), specialty.toLowerCase(Locale.ROOT)).block().getSpecialty()).isEqualTo(specialty);
+    }
+
+    @Test
+    @DisplayName("Test update developer by id functionality")
+    public void givenDeveloper_whenUpdateById_thenColumnsChangeAndVersionIsBumped() {
+        //given
+        DeveloperEntity inserted = insert(uniqueEmail(), "java").block();
+        String email = uniqueEmail();
+
+        //when
+        Integer updated = developerRepository.updateById(inserted.getId(), email, "Johnny", "Doe", "Kotlin",
+                Status.ACTIVE, now()).block();
+
+        //then
+        assertThat(updated).isEqualTo(1);
+        DeveloperEntity obtained = developerRepository.findById(inserted.getId()).block();
+        assertThat(obtained.getEmail()).isEqualTo(email);
+        assertThat(obtained.getFirstName()).isEqualTo("Johnny");
+        assertThat(obtained.getSpecialty()).isEqualToIgnoringCase("kotlin");
+        assertThat(obtained.getVersion()).isEqualTo(inserted.getVersion() + 1);
+        assertThat(developerRepository.updateById(Integer.MAX_VALUE, uniqueEmail(), "Nobody", "Nobody", "java",
+                Status.ACTIVE, now()).block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test hard delete developer by id functionality")
+    public void givenDeveloper_whenHardDeleteById_thenRowIsReplacedByTombstone() {
+        //given
+        DeveloperEntity inserted = insert(uniqueEmail(), "java").block();
+
+        //when
+        Integer deleted = developerRepository.hardDeleteById(inserted.getId(), now()).block();
+
+        //then
+        assertThat(deleted).isEqualTo(1);
+        StepVerifier.create(developerRepository.findById(inserted.getId())).verifyComplete();
+        Long tombstones = databaseClient.sql("SELECT count(*) FROM developer_tombstones WHERE developer_id = :id")
+                .bind("id", inserted.getId())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        assertThat(tombstones).isEqualTo(1);
+        assertThat(developerRepository.hardDeleteById(inserted.getId(), now()).block()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test developer writes record outbox events functionality")
+    public void givenDeveloperLifecycle_whenWrite_thenOutboxEventIsRecordedPerChange() {
+        //given
+        String email = uniqueEmail();
+        String specialty = "Outbox-" + UUID.randomUUID();
+        DeveloperEntity inserted = insert(email, "java").block();
+
+        //when
+        developerRepository.updateById(inserted.getId(), email, "Johnny", "Doe", specialty, null, now()).block();
+        developerRepository.softDeleteById(inserted.getId(), now()).block();
+        developerRepository.softDeleteById(inserted.getId(), now()).block();
+        developerRepository.hardDeleteById(inserted.getId(), now()).block();
+
+        //then
+        List<String> types = databaseClient.sql("SELECT type FROM outbox_events WHERE developer_id = :id ORDER BY id")
+                .bind("id", inserted.getId())
+                .map(row -> row.get(0, String.class))
+                .all()
+                .collectList()
+                .block();
+        assertThat(types).containsExactly("CREATED", "UPDATED", "SOFT_DELETED", "HARD_DELETED");
+        String updatedPayload = databaseClient.sql("SELECT payload FROM outbox_events " +
+                        "WHERE developer_id = :id AND type = 'UPDATED'")
+                .bind("id", inserted.getId())
+                .map(row -> row.get(0, String.class))
+                .one()
+                .block();
+        assertThat(updatedPayload).contains("\"firstName\":\"Johnny\"", "\"specialty\":\"" + specialty + "\"",
+                "\"status\":\"ACTIVE\"");
+    }
+
+    @Test
+    @DisplayName("Test concurrent first registration of a specialty functionality")
+    public void givenSpecialtyRegisteredByUncommittedTransaction_whenInsertConcurrently_thenBothDevelopersGetIt() throws Exception {
+        //given
+        String specialty = "Race-" + UUID.randomUUID();
+        TransactionalOperator transactional = TransactionalOperator.create(transactionManager);
+        Sinks.One<DeveloperEntity> firstInserted = Sinks.one();
+        Sinks.Empty<Void> commitFirst = Sinks.empty();
+        CompletableFuture<DeveloperEntity> first = insert(uniqueEmail(), specialty)
+                .doOnNext(firstInserted::tryEmitValue)
+                .delayUntil(developer -> commitFirst.asMono())
+                .as(transactional::transactional)
+                .toFuture();
+        firstInserted.asMono().block(Duration.ofSeconds(10));
+
+        //when
+        CompletableFuture<DeveloperEntity> second = insert(uniqueEmail(), specialty.toLowerCase(Locale.ROOT))
+                .as(transactional::transactional)
+                .subscribeOn(Schedulers.boundedElastic())
+                .toFuture();
+        // the second insert has to be blocked on the first one's specialties row before that commits
+        waitForLockWaiters();
+        commitFirst.tryEmitEmpty();
+
+        //then
+        DeveloperEntity firstDeveloper = first.get();
+        DeveloperEntity secondDeveloper = second.get();
+        assertThat(secondDeveloper.getSpecialty()).isEqualTo(specialty);
+        Long withoutSpecialty = databaseClient.sql("SELECT count(*) FROM developers " +
+                        "WHERE id IN (:ids) AND specialty_id IS NULL")
+                .bind("ids", List.of(firstDeveloper.getId(), secondDeveloper.getId()))
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .block();
+        assertThat(withoutSpecialty).isZero();
+    }
+
+    private Mono<DeveloperEntity> insert(String email, String specialty) {
+        return developerRepository.insert(email, "John", "Doe", specialty, now());
+    }
+
+    private void waitForLockWaiters() throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Long waiting = databaseClient.sql("SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'")
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .block();
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The second insert never waited for the first transaction");
+    }
+
+    private static String uniqueEmail() {
+        return "r2dbc.%s@gmail.com".formatted(UUID.randomUUID());
+    }
+
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,217 @@
+package com.dmadev.qadevs.reactive.service;
+
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+import com.dmadev.qadevs.reactive.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.reactive.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.reactive.repository.DeveloperRepository;
+import com.dmadev.qadevs.reactive.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperServiceImplTest {
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @InjectMocks
+    private DeveloperServiceImpl serviceUnderTest;
+
+    @Test
+    @DisplayName("Test save developer functionality")
+    public void givenDeveloperToSave_whenSaveDeveloper_thenRepositoryIsCalled() {
+        //given
+        DeveloperEntity developerToSave = DataUtils.getJohnDoeTransient();
+        developerToSave.setEmail(" John.Doe@Gmail.com ");
+        BDDMockito.given(developerRepository.insert(eq("john.doe@gmail.com"), eq("John"), eq("Doe"), eq("java"),
+                any(Instant.class)))
+                .willReturn(Mono.just(DataUtils.getJohnDoePersisted()));
+
+        //when
+        Mono<DeveloperEntity> savedDeveloper = serviceUnderTest.saveDeveloper(developerToSave);
+
+        //then
+        StepVerifier.create(savedDeveloper)
+                .expectNextMatches(developer -> developer.getId() != null && developer.getStatus() == Status.ACTIVE)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test save developer with duplicate email functionality")
+    public void givenDeveloperToSaveWithDuplicateEmail_whenSaveDeveloper_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.insert(anyString(), anyString(), anyString(), anyString(), any(Instant.class)))
+                .willReturn(Mono.error(new DataIntegrityViolationException(
+                        "duplicate key value violates unique constraint \"uk_developers_email\"")));
+
+        //when
+        Mono<DeveloperEntity> savedDeveloper = serviceUnderTest.saveDeveloper(DataUtils.getJohnDoeTransient());
+
+        //then
+        StepVerifier.create(savedDeveloper)
+                .expectError(DeveloperWithDuplicateEmailException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test update developer functionality")
+    public void givenDeveloperToUpdate_whenUpdateDeveloper_thenRepositoryIsCalled() {
+        //given
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        BDDMockito.given(developerRepository.updateById(anyInt(), anyString(), anyString(), anyString(), anyString(),
+                any(Status.class), any(Instant.class))).willReturn(Mono.just(1));
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Mono.just(developerToUpdate));
+
+        //when
+        Mono<DeveloperEntity> updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+
+        //then
+        StepVerifier.create(updatedDeveloper)
+                .expectNext(developerToUpdate)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test update developer with incorrect id functionality")
+    public void givenDeveloperToUpdateWithIncorrectId_whenUpdateDeveloper_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.updateById(anyInt(), anyString(), anyString(), anyString(), anyString(),
+                any(Status.class), any(Instant.class))).willReturn(Mono.just(0));
+
+        //when
+        Mono<DeveloperEntity> updatedDeveloper = serviceUnderTest.updateDeveloper(DataUtils.getJohnDoePersisted());
+
+        //then
+        StepVerifier.create(updatedDeveloper)
+                .expectError(DeveloperNotFoundException.class)
+                .verify();
+        verify(developerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get developer by id functionality")
+    public void givenId_whenGetById_thenDeveloperIsReturned() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Mono.just(DataUtils.getJohnDoePersisted()));
+
+        //when
+        Mono<DeveloperEntity> obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
+
+        //then
+        StepVerifier.create(obtainedDeveloper)
+                .expectNextMatches(developer -> developer.getId() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test get developer by id not found functionality")
+    public void givenIncorrectId_whenGetById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Mono.empty());
+
+        //when
+        Mono<DeveloperEntity> obtainedDeveloper = serviceUnderTest.getDeveloperById(1);
+
+        //then
+        StepVerifier.create(obtainedDeveloper)
+                .expectErrorMessage("Developer with id: 1 is not exist")
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test get all active developers by specialty functionality")
+    public void givenSpecialty_whenGetAllActiveBySpecialty_thenDevelopersAreReturned() {
+        //given
+        BDDMockito.given(developerRepository.findAllActiveBySpecialty("java"))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+
+        //when
+        Flux<DeveloperEntity> developers = serviceUnderTest.getAllActiveBySpecialty("java");
+
+        //then
+        StepVerifier.create(developers)
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test export developers functionality")
+    public void givenStatus_whenExportDevelopers_thenRowsAreStreamedInOrder() {
+        //given
+        BDDMockito.given(developerRepository.findAllByStatusOrderById(Status.ACTIVE))
+                .willReturn(Flux.just(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted()));
+
+        //when
+        Flux<DeveloperEntity> developers = serviceUnderTest.exportDevelopers(Status.ACTIVE);
+
+        //then
+        StepVerifier.create(developers, 1)
+                .expectNextMatches(developer -> developer.getId() == 1)
+                .thenRequest(1)
+                .expectNextMatches(developer -> developer.getId() == 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test soft delete by id functionality")
+    public void givenId_whenSoftDeleteById_thenRowIsUpdated() {
+        //given
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class))).willReturn(Mono.just(1));
+
+        //when
+        Mono<Void> deletion = serviceUnderTest.softDeleteById(1);
+
+        //then
+        StepVerifier.create(deletion)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Test soft delete by id with incorrect id functionality")
+    public void givenIncorrectId_whenSoftDeleteById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class))).willReturn(Mono.just(0));
+
+        //when
+        Mono<Void> deletion = serviceUnderTest.softDeleteById(1);
+
+        //then
+        StepVerifier.create(deletion)
+                .expectError(DeveloperNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Test hard delete by id with incorrect id functionality")
+    public void givenIncorrectId_whenHardDeleteById_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt(), any(Instant.class))).willReturn(Mono.just(0));
+
+        //when
+        Mono<Void> deletion = serviceUnderTest.hardDeleteById(1);
+
+        //then
+        StepVerifier.create(deletion)
+                .expectErrorMessage("Developer with id: 1 not found")
+                .verify();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dmadev.qadevs.reactive.util;
+
+import com.dmadev.qadevs.reactive.dto.DeveloperDto;
+import com.dmadev.qadevs.reactive.entity.DeveloperEntity;
+import com.dmadev.qadevs.reactive.entity.Status;
+
+public abstract class DataUtils {
+
+    public static DeveloperEntity getJohnDoeTransient() {
+        return DeveloperEntity.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static DeveloperEntity getJohnDoePersisted() {
+        return DeveloperEntity.builder()
+                .id(1)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static DeveloperEntity getMikeSmithPersisted() {
+        return DeveloperEntity.builder()
+                .id(2)
+                .firstName("Mike")
+                .lastName("Smith")
+                .email("mike.smith@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static DeveloperDto getJohnDoeDtoTransient() {
+        return DeveloperDto.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+
+    public static DeveloperDto getJohnDoeDtoPersisted() {
+        return DeveloperDto.builder()
+                .id(1)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
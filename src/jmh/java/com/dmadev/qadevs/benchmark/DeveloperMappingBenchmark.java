@@ -0,0 +1,49 @@
+package com.dmadev.qadevs.benchmark;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversion done for every row of every response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeveloperMappingBenchmark {
+
+    private DeveloperEntity entity;
+    private DeveloperDto dto;
+
+    @Setup
+    public void setUp() {
+        entity = DeveloperEntity.builder()
+                .id(1)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@gmail.com")
+                .specialty("java")
+                .status(Status.ACTIVE)
+                .build();
+        dto = DeveloperDto.fromEntity(entity);
+    }
+
+    @Benchmark
+    public DeveloperDto fromEntity() {
+        return DeveloperDto.fromEntity(entity);
+    }
+
+    @Benchmark
+    public DeveloperEntity toEntity() {
+        return dto.toEntity();
+    }
+}
@@ -0,0 +1,71 @@
+package com.dmadev.qadevs.benchmark;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Jackson serialization of list responses, with an object mapper configured like the one Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeveloperSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<DeveloperDto> developers;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        developers = IntStream.range(0, size)
+                .mapToObj(i -> DeveloperDto.builder()
+                        .id(i + 1)
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("developer-%d@qadevs.dev".formatted(i))
+                        .specialty(i % 2 == 0 ? "java" : "c#")
+                        .status(Status.ACTIVE)
+                        .build())
+                .toList();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, DeveloperDto.class));
+        serialized = objectMapper.writeValueAsBytes(developers);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(developers);
+    }
+
+    @Benchmark
+    public byte[] serializeListWithTypedWriter() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(developers);
+    }
+
+    @Benchmark
+    public DeveloperDto[] deserializeList() throws IOException {
+        return objectMapper.readValue(serialized, DeveloperDto[].class);
+    }
+}
@@ -0,0 +1,155 @@
+package com.dmadev.qadevs.benchmark;
+
+import com.dmadev.qadevs.QadevsApplication;
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.service.DeveloperService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * {@code DeveloperService} through the real Spring context (transactions, caches, Hibernate)
+ * on an in-memory H2 database migrated by Flyway. No web layer is started.
+ * Sampled rather than averaged: cache hits and misses mix in every run, so the tail is what
+ * matters, and the JSON results carry p50 to p99.99 next to the mean.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeveloperServiceBenchmark {
+
+    /**
+     * Longer than any trial, so the scheduled jobs never run during one.
+     */
+    private static final String BACKGROUND_JOB_INTERVAL = "PT24H";
+
+    @Param({"10000"})
+    private int seededDevelopers;
+
+    @Param({"caffeine", "none"})
+    private String cacheType;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    private ConfigurableApplicationContext context;
+    private DeveloperService developerService;
+    private EntityManagerFactory entityManagerFactory;
+    private List<Integer> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(QadevsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.jpa.show-sql=false",
+                        "spring.cache.type=" + cacheType,
+                        // background jobs would log, rebuild and reconcile while the samples are taken
+                        "qadevs.outbox.dispatch-interval=" + BACKGROUND_JOB_INTERVAL,
+                        "qadevs.stats.reconcile-interval=" + BACKGROUND_JOB_INTERVAL,
+                        "qadevs.specialty-index.rebuild-interval=" + BACKGROUND_JOB_INTERVAL,
+                        "qadevs.search.rebuild-interval=" + BACKGROUND_JOB_INTERVAL)
+                .run();
+        developerService = context.getBean(DeveloperService.class);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        ids = developerService.saveDevelopers(IntStream.range(0, seededDevelopers)
+                        .mapToObj(i -> developer("seed-" + i))
+                        .toList())
+                .getSaved()
+                .stream()
+                .map(DeveloperEntity::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DeveloperEntity getDeveloperById() {
+        return developerService.getDeveloperById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getActiveDevelopersPage() {
+        return developerService.getActiveDevelopersPage(ids.get(ThreadLocalRandom.current().nextInt(ids.size())), 51);
+    }
+
+    @Benchmark
+    public List<DeveloperDto> getActiveBySpecialtyPage() {
+        return developerService.getActiveBySpecialtyPage("java", null, 51);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DeveloperDto> getAllDevelopers() {
+        return developerService.getAllDevelopers();
+    }
+
+    /**
+     * Baseline for {@link #getAllDevelopers()}: the same rows loaded as managed entities and copied into DTOs.
+     * Compare the two with {@code gc.alloc.rate.norm} from the GC profiler.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<DeveloperDto> getAllDevelopersThroughEntities() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT d FROM DeveloperEntity d WHERE d.status = :status", DeveloperEntity.class)
+                    .setParameter("status", Status.ACTIVE)
+                    .getResultList()
+                    .stream()
+                    .map(DeveloperDto::fromEntity)
+                    .toList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void exportDevelopers(Blackhole blackhole) {
+        developerService.exportDevelopers(Status.ACTIVE, blackhole::consume);
+    }
+
+    @Benchmark
+    public DeveloperEntity saveDeveloper() {
+        return developerService.saveDeveloper(developer("bench-" + sequence.incrementAndGet()));
+    }
+
+    private static DeveloperEntity developer(String name) {
+        return DeveloperEntity.builder()
+                .firstName("Bench")
+                .lastName(name)
+                .email(name + "@qadevs.dev")
+                .specialty((name.hashCode() & 1) == 0 ? "java" : "c#")
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.dmadev.qadevs.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Read-through caches in front of the developer lookups. Size, TTL and stats recording are set by
+ * {@code spring.cache.caffeine.spec}; misses are cached as null values, so unknown ids stay cheap too.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DEVELOPERS_BY_ID = "developersById";
+    public static final String DEVELOPERS_BY_EMAIL = "developersByEmail";
+
+    /**
+     * Puts and evictions made inside a transaction are applied once it commits. An eviction before the commit
+     * would let a concurrent read cache the old row again for the whole TTL. The Caffeine cache manager has no
+     * {@code transactionAware} switch of its own, so the auto-configured one is wrapped.
+     */
+    @Bean
+    public static BeanPostProcessor transactionAwareCacheManagerPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.dmadev.qadevs.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Pool saturation next to the raw {@code hikaricp.connections.*} meters Spring Boot already binds:
+ * (active + pending) / maximum pool size. Up to 1 the pool keeps up; above 1 requests are waiting
+ * for a connection, which shows up in latency long before connection timeouts do.
+ */
+@Configuration
+@ConditionalOnClass(HikariDataSource.class)
+public class DataSourceMetricsConfig {
+
+    public static final String POOL_SATURATION_GAUGE = "qadevs.datasource.pool.saturation";
+
+    @Bean
+    public MeterBinder dataSourcePoolSaturation(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikariDataSource =
+                    DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikariDataSource == null) {
+                return;
+            }
+            Gauge.builder(POOL_SATURATION_GAUGE, hikariDataSource, DataSourceMetricsConfig::saturation)
+                    .description("Active plus pending connection requests per pooled connection")
+                    .register(registry);
+        };
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        // the pool MXBean only exists once the pool has been started
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dmadev.qadevs.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@code @Timed} on Spring beans. Repository queries are timed by Spring Boot itself
+ * ({@code spring.data.repository.invocations}), Hikari and Hibernate statistics are bound automatically.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String DEVELOPER_SERVICE_TIMER = "qadevs.developer.service";
+    public static final String DEVELOPER_ERRORS_COUNTER = "qadevs.developer.errors";
+    public static final String OUTBOX_DISPATCHED_COUNTER = "qadevs.outbox.dispatched";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
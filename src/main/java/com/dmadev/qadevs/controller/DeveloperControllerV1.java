@@ -1,25 +1,53 @@
 package com.dmadev.qadevs.controller;
 
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.dto.BatchGetResultDto;
+import com.dmadev.qadevs.dto.BulkCreateResultDto;
+import com.dmadev.qadevs.dto.BulkDeleteResultDto;
+import com.dmadev.qadevs.dto.ChangeCursor;
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
+import com.dmadev.qadevs.dto.DeveloperChangesPageDto;
 import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.dto.DeveloperPageDto;
+import com.dmadev.qadevs.dto.DeveloperSearchPageDto;
 import com.dmadev.qadevs.dto.ErrorDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
 import com.dmadev.qadevs.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.exception.DeveloperVersionConflictException;
 import com.dmadev.qadevs.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.service.BulkSaveResult;
+import com.dmadev.qadevs.service.DeveloperChangeFeed;
+import com.dmadev.qadevs.service.DeveloperSearch;
 import com.dmadev.qadevs.service.DeveloperService;
+import com.dmadev.qadevs.service.DeveloperStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Controller
 @RequiredArgsConstructor
@@ -27,7 +55,17 @@ import java.util.List;
 @RequestMapping("/api/v1/developers")
 public class DeveloperControllerV1 {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int MAX_BULK_SIZE = 50_000;
+    // one IN list per request; well below the bind parameter limit of the drivers
+    private static final int MAX_BATCH_GET_SIZE = 1000;
+
     private final DeveloperService developerService;
+    private final DeveloperChangeFeed developerChangeFeed;
+    private final DeveloperStatistics developerStatistics;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @PostMapping
     public ResponseEntity<?> createDeveloper(@RequestBody DeveloperDto dto) {
@@ -37,6 +75,7 @@ public class DeveloperControllerV1 {
             DeveloperDto result = DeveloperDto.fromEntity(createdDeveloper);
             return ResponseEntity.ok(result);
         } catch (DeveloperWithDuplicateEmailException exception) {
+            countError("create", exception);
             return ResponseEntity.badRequest().body(ErrorDto.builder()
                     .status(400)
                     .message(exception.getMessage())
@@ -44,32 +83,115 @@ public class DeveloperControllerV1 {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createDevelopers(@RequestBody List<DeveloperDto> dtos) {
+        if (dtos.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message("Bulk create accepts at most %d developers".formatted(MAX_BULK_SIZE))
+                            .build());
+        }
+        List<DeveloperEntity> entities = dtos.stream()
+                .map(DeveloperDto::toEntity)
+                .toList();
+        BulkSaveResult result = developerService.saveDevelopers(entities);
+        return ResponseEntity.ok(BulkCreateResultDto.fromResult(result));
+    }
+
     @PutMapping
-    public ResponseEntity<?> updateDeveloper(@RequestBody DeveloperDto dto) {
+    public ResponseEntity<?> updateDeveloper(@RequestBody DeveloperDto dto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        List<Integer> ifMatchVersions;
+        try {
+            ifMatchVersions = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException exception) {
+            countError("update", exception);
+            return ifMatchError(exception);
+        }
         try {
             DeveloperEntity entity = dto.toEntity();
+            entity.setVersion(expectedVersion(dto.getId(), ifMatchVersions));
             DeveloperEntity updatedDeveloper = developerService.updateDeveloper(entity);
             DeveloperDto result = DeveloperDto.fromEntity(updatedDeveloper);
-            return ResponseEntity.ok(result);
+            return ResponseEntity.ok()
+                    .eTag(Integer.toString(updatedDeveloper.getVersion()))
+                    .body(result);
         } catch (DeveloperNotFoundException exception) {
+            countError("update", exception);
             return ResponseEntity.badRequest()
                     .body(ErrorDto.builder()
                             .status(400)
                             .message(exception.getMessage())
                             .build()
                     );
+        } catch (DeveloperWithDuplicateEmailException exception) {
+            countError("update", exception);
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message(exception.getMessage())
+                            .build());
+        } catch (DeveloperVersionConflictException exception) {
+            countError("update", exception);
+            return versionConflictError(exception);
         }
 
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> patchDeveloper(@PathVariable("id") Integer id, @RequestBody DeveloperDto dto,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        List<Integer> ifMatchVersions;
+        try {
+            ifMatchVersions = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException exception) {
+            countError("patch", exception);
+            return ifMatchError(exception);
+        }
+        try {
+            DeveloperEntity changes = dto.toEntity();
+            changes.setVersion(expectedVersion(id, ifMatchVersions));
+            DeveloperEntity patchedDeveloper = developerService.patchDeveloper(id, changes);
+            return ResponseEntity.ok()
+                    .eTag(Integer.toString(patchedDeveloper.getVersion()))
+                    .body(DeveloperDto.fromEntity(patchedDeveloper));
+        } catch (DeveloperNotFoundException exception) {
+            countError("patch", exception);
+            int status = 404;
+            return ResponseEntity.status(status)
+                    .body(ErrorDto.builder()
+                            .status(status)
+                            .message(exception.getMessage())
+                            .build());
+        } catch (DeveloperWithDuplicateEmailException exception) {
+            countError("patch", exception);
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message(exception.getMessage())
+                            .build());
+        } catch (DeveloperVersionConflictException exception) {
+            countError("patch", exception);
+            return versionConflictError(exception);
+        }
+    }
+
+    /**
+     * The version is the ETag, so an unchanged developer is answered with 304 and no body when the
+     * client sends it back in If-None-Match.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<?> getDeveloperById(@PathVariable("id") Integer id) {
         try {
             DeveloperEntity developerById = developerService.getDeveloperById(id);
             DeveloperDto developerDto = DeveloperDto.fromEntity(developerById);
-            return ResponseEntity.ok(developerDto);
+            return ResponseEntity.ok()
+                    .eTag(Integer.toString(developerById.getVersion()))
+                    .body(developerDto);
 
         } catch (DeveloperNotFoundException exception) {
+            countError("get-by-id", exception);
             int status = 404;
             return ResponseEntity.status(status)
                     .body(ErrorDto.builder()
@@ -79,20 +201,147 @@ public class DeveloperControllerV1 {
         }
     }
 
+    /**
+     * Resolves many ids in one request and one query instead of one GET each. Developers come back in request
+     * order, duplicates once; ids that match no developer are listed as missing rather than failing the request.
+     */
+    @PostMapping("/batch-get")
+    public ResponseEntity<?> getDevelopersByIds(@RequestBody List<Integer> ids) {
+        List<Integer> distinctIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_GET_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message("Batch get accepts between 1 and %d ids".formatted(MAX_BATCH_GET_SIZE))
+                            .build());
+        }
+        Map<Integer, DeveloperEntity> found = developerService.getDevelopersByIds(distinctIds);
+        return ResponseEntity.ok(BatchGetResultDto.of(distinctIds, found));
+    }
+
     @GetMapping
     public ResponseEntity<?> getAllDevelopers() {
-        List<DeveloperEntity> allDevelopers = developerService.getAllDevelopers();
-        List<DeveloperDto> developerDtos = allDevelopers.stream()
-                .map(DeveloperDto::fromEntity).toList();
-        return ResponseEntity.ok(developerDtos);
+        List<DeveloperDto> allDevelopers = developerService.getAllDevelopers();
+        return ResponseEntity.ok(allDevelopers);
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<?> getDevelopersPage(@RequestParam(value = "cursor", required = false) Integer cursor,
+                                               @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return pageLimitError();
+        }
+        // one extra row tells whether a next page exists without a count query
+        List<DeveloperDto> developers = developerService.getActiveDevelopersPage(cursor, limit + 1);
+        return ResponseEntity.ok(DeveloperPageDto.of(developers, limit));
+    }
+
+    @GetMapping("/bench")
+    public ResponseEntity<?> getBenchDevelopersPage(@RequestParam(value = "cursor", required = false) Integer cursor,
+                                                    @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return pageLimitError();
+        }
+        List<DeveloperDto> developers = developerService.getBenchDevelopersPage(cursor, limit + 1);
+        return ResponseEntity.ok(DeveloperPageDto.of(developers, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchDevelopers(@RequestParam("q") String query,
+                                              @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                              @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        if (query.trim().length() < DeveloperSearch.MIN_QUERY_LENGTH) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message("Search query must have at least %d characters".formatted(DeveloperSearch.MIN_QUERY_LENGTH))
+                            .build());
+        }
+        // subtracting keeps huge offsets and limits from overflowing into a passing sum
+        if (offset < 0 || limit < 1 || limit > DeveloperSearch.MAX_RESULTS - offset) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message("Search pages must lie within the first %d results".formatted(DeveloperSearch.MAX_RESULTS))
+                            .build());
+        }
+        List<DeveloperDto> developers = developerService.searchDevelopers(query, offset, limit + 1);
+        return ResponseEntity.ok(DeveloperSearchPageDto.of(developers, offset, limit));
+    }
+
+    /**
+     * Change feed for downstream copies: poll with the returned cursor to receive only what changed since.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(value = "since", required = false) String since,
+                                        @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return pageLimitError();
+        }
+        ChangeCursor cursor;
+        try {
+            cursor = since == null ? null : ChangeCursor.parse(since);
+        } catch (IllegalArgumentException exception) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message(exception.getMessage())
+                            .build());
+        }
+        List<DeveloperChangeDto> changes = developerChangeFeed.getChangesSince(cursor, limit + 1);
+        return ResponseEntity.ok(DeveloperChangesPageDto.of(changes, limit, cursor));
+    }
+
+    /**
+     * Roster totals from in-memory counters; counting rows for a dashboard never reads the table.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStatistics() {
+        return ResponseEntity.ok(developerStatistics.snapshot());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDevelopers(
+            @RequestParam(value = "status", defaultValue = "ACTIVE") Status status) {
+        StreamingResponseBody body = outputStream -> {
+            AtomicLong written = new AtomicLong();
+            developerService.exportDevelopers(status, developer -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(DeveloperDto.fromEntity(developer)));
+                    outputStream.write('\n');
+                    // flush the first row right away, then in chunks
+                    if (written.getAndIncrement() % EXPORT_FLUSH_INTERVAL == 0) {
+                        outputStream.flush();
+                    }
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/specialty/{specialty}")
     public ResponseEntity<?> getAllDevelopersBySpecialty(@PathVariable("specialty") String specialty) {
-        List<DeveloperEntity> allActiveBySpecialty = developerService.getAllActiveBySpecialty(specialty);
-        List<DeveloperDto> developerDtos = allActiveBySpecialty.stream().map(DeveloperDto::fromEntity)
-                .toList();
-        return ResponseEntity.ok(developerDtos);
+        List<DeveloperDto> allActiveBySpecialty = developerService.getAllActiveBySpecialty(specialty);
+        return ResponseEntity.ok(allActiveBySpecialty);
+    }
+
+    @GetMapping("/specialty/{specialty}/page")
+    public ResponseEntity<?> getDevelopersBySpecialtyPage(@PathVariable("specialty") String specialty,
+                                                          @RequestParam(value = "cursor", required = false) Integer cursor,
+                                                          @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            return pageLimitError();
+        }
+        List<DeveloperDto> developers = developerService.getActiveBySpecialtyPage(specialty, cursor, limit + 1);
+        return ResponseEntity.ok(DeveloperPageDto.of(developers, limit));
     }
 
     @DeleteMapping("/{id}")
@@ -107,6 +356,7 @@ public class DeveloperControllerV1 {
             }
             return ResponseEntity.ok().build();
         } catch (DeveloperNotFoundException exception) {
+            countError(isHard ? "hard-delete" : "soft-delete", exception);
             return ResponseEntity.badRequest()
                     .body(ErrorDto.builder()
                     .status(400)
@@ -115,5 +365,111 @@ public class DeveloperControllerV1 {
         }
     }
 
+    @DeleteMapping
+    public ResponseEntity<?> deleteDevelopersById(@RequestParam("ids") List<Integer> ids,
+                                                  @RequestParam(value = "isHard", defaultValue = "false") boolean isHard) {
+        if (ids.isEmpty() || ids.size() > MAX_BULK_SIZE) {
+            return ResponseEntity.badRequest()
+                    .body(ErrorDto.builder()
+                            .status(400)
+                            .message("Bulk delete accepts between 1 and %d ids".formatted(MAX_BULK_SIZE))
+                            .build());
+        }
+        List<Integer> distinctIds = ids.stream().distinct().toList();
+        int deleted = isHard
+                ? developerService.hardDeleteAllById(distinctIds)
+                : developerService.softDeleteAllById(distinctIds);
+        return ResponseEntity.ok(BulkDeleteResultDto.builder()
+                .requested(distinctIds.size())
+                .deleted(deleted)
+                .build());
+    }
+
+    private void countError(String operation, RuntimeException exception) {
+        meterRegistry.counter(MetricsConfig.DEVELOPER_ERRORS_COUNTER,
+                        "operation", operation,
+                        "exception", exception.getClass().getSimpleName())
+                .increment();
+    }
+
+    /**
+     * Reads the versions an If-Match header lists (RFC 9110, section 13.1.1): {@code null} without the header,
+     * an empty list for {@code *}. Every tag has to be one of our ETags, quoted or not.
+     */
+    private static List<Integer> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        if (ifMatch.trim().equals("*")) {
+            return List.of();
+        }
+        List<Integer> versions = new ArrayList<>();
+        for (String value : ifMatch.split(",")) {
+            String tag = value.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            try {
+                versions.add(Integer.valueOf(tag));
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("If-Match must be * or a list of version tags such as \"3\"");
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * The version the service has to find. A single tag is passed on as it is. For {@code *} or a list, the
+     * current version is looked up: {@code *} only requires the developer to exist, and a list is answered by
+     * its tag that equals the current version, if any. The service compares again inside its transaction,
+     * so a write that lands in between still ends in 412.
+     */
+    private Integer expectedVersion(Integer id, List<Integer> versions) {
+        if (versions == null || versions.size() == 1 || id == null) {
+            return versions == null || versions.isEmpty() ? null : versions.get(0);
+        }
+        Integer currentVersion;
+        try {
+            currentVersion = developerService.getDeveloperById(id).getVersion();
+        } catch (DeveloperNotFoundException exception) {
+            if (versions.isEmpty()) {
+                throw new DeveloperVersionConflictException("Developer with id: %d is not exist".formatted(id));
+            }
+            throw exception;
+        }
+        if (versions.isEmpty()) {
+            return null;
+        }
+        return versions.contains(currentVersion) ? currentVersion : versions.get(0);
+    }
+
+    private static ResponseEntity<ErrorDto> ifMatchError(IllegalArgumentException exception) {
+        return ResponseEntity.badRequest()
+                .body(ErrorDto.builder()
+                        .status(400)
+                        .message(exception.getMessage())
+                        .build());
+    }
+
+    private static ResponseEntity<ErrorDto> versionConflictError(DeveloperVersionConflictException exception) {
+        int status = 412;
+        return ResponseEntity.status(status)
+                .body(ErrorDto.builder()
+                        .status(status)
+                        .message(exception.getMessage())
+                        .build());
+    }
+
+    private static ResponseEntity<ErrorDto> pageLimitError() {
+        return ResponseEntity.badRequest()
+                .body(ErrorDto.builder()
+                        .status(400)
+                        .message("Page limit must be between 1 and %d".formatted(MAX_PAGE_SIZE))
+                        .build());
+    }
+
     //eof
 }
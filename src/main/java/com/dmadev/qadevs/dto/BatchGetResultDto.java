@@ -0,0 +1,40 @@
+package com.dmadev.qadevs.dto;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGetResultDto {
+    private List<DeveloperDto> developers;
+    private List<Integer> missing;
+
+    /**
+     * Found developers in the order their ids were requested, followed by the ids that matched none.
+     */
+    public static BatchGetResultDto of(List<Integer> ids, Map<Integer, DeveloperEntity> found) {
+        List<DeveloperDto> developers = new ArrayList<>(found.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : ids) {
+            DeveloperEntity developer = found.get(id);
+            if (developer == null) {
+                missing.add(id);
+            } else {
+                developers.add(DeveloperDto.fromEntity(developer));
+            }
+        }
+        return BatchGetResultDto.builder()
+                .developers(developers)
+                .missing(missing)
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.dmadev.qadevs.dto;
+
+import com.dmadev.qadevs.service.BulkSaveResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResultDto {
+    private List<DeveloperDto> created;
+    private List<ErrorDto> errors;
+
+    public static BulkCreateResultDto fromResult(BulkSaveResult result) {
+        return BulkCreateResultDto.builder()
+                .created(result.getSaved().stream()
+                        .map(DeveloperDto::fromEntity)
+                        .toList())
+                .errors(result.getRejected().entrySet().stream()
+                        .map(rejected -> ErrorDto.builder()
+                                .status(400)
+                                .index(rejected.getKey())
+                                .message(rejected.getValue())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
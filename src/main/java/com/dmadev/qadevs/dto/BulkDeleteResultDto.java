@@ -0,0 +1,15 @@
+package com.dmadev.qadevs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeleteResultDto {
+    private Integer requested;
+    private Integer deleted;
+}
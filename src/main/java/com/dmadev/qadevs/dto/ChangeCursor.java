@@ -0,0 +1,38 @@
+package com.dmadev.qadevs.dto;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Position in the change feed: the change time plus the developer id as a tie-breaker, so changes
+ * stamped with the same microsecond are neither skipped nor repeated. Serialized as
+ * {@code <epoch micros>_<id>}; clients treat it as opaque.
+ */
+public record ChangeCursor(Instant changedAt, Integer id) {
+
+    public static ChangeCursor of(DeveloperChangeDto change) {
+        return new ChangeCursor(change.getChangedAt(), change.getId());
+    }
+
+    /**
+     * @throws IllegalArgumentException when the value was not produced by {@link #toString()}
+     */
+    public static ChangeCursor parse(String value) {
+        int separator = value.indexOf('_');
+        if (separator < 1) {
+            throw new IllegalArgumentException("Malformed change cursor: " + value);
+        }
+        try {
+            long micros = Long.parseLong(value.substring(0, separator));
+            int id = Integer.parseInt(value.substring(separator + 1));
+            return new ChangeCursor(Instant.EPOCH.plus(micros, ChronoUnit.MICROS), id);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Malformed change cursor: " + value, exception);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, changedAt) + "_" + id;
+    }
+}
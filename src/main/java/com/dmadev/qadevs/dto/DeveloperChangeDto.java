@@ -0,0 +1,41 @@
+package com.dmadev.qadevs.dto;
+
+import com.dmadev.qadevs.entity.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One entry of the change feed: the current state of a developer, or only its id when the
+ * developer was hard-deleted. Soft-deleted developers are reported with status DELETED.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperChangeDto {
+    private Integer id;
+    private Instant changedAt;
+    private boolean removed;
+    private DeveloperDto developer;
+
+    /**
+     * Constructor expression target for changed rows.
+     */
+    public DeveloperChangeDto(Integer id, Instant changedAt, String firstName, String lastName, String email,
+                              String specialty, Status status) {
+        this(id, changedAt, false, new DeveloperDto(id, firstName, lastName, email, specialty, status));
+    }
+
+    /**
+     * Constructor expression target for tombstones.
+     */
+    public DeveloperChangeDto(Integer id, Instant changedAt) {
+        this(id, changedAt, true, null);
+    }
+}
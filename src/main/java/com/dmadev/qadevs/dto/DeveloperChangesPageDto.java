@@ -0,0 +1,34 @@
+package com.dmadev.qadevs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperChangesPageDto {
+    private List<DeveloperChangeDto> changes;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * Builds a page from {@code limit + 1} changes like {@link DeveloperPageDto#of}. Unlike a roster page
+     * the cursor is always returned: an empty page hands back the cursor it was asked for, so a client
+     * just keeps polling with whatever it got last.
+     */
+    public static DeveloperChangesPageDto of(List<DeveloperChangeDto> changes, int limit, ChangeCursor since) {
+        boolean hasMore = changes.size() > limit;
+        List<DeveloperChangeDto> content = hasMore ? changes.subList(0, limit) : changes;
+        ChangeCursor nextCursor = content.isEmpty() ? since : ChangeCursor.of(content.get(content.size() - 1));
+        return DeveloperChangesPageDto.builder()
+                .changes(content)
+                .nextCursor(nextCursor == null ? null : nextCursor.toString())
+                .hasMore(hasMore)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.dmadev.qadevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperPageDto {
+    private List<DeveloperDto> content;
+    private Integer nextCursor;
+
+    /**
+     * Builds a page from a keyset query that was asked for {@code limit + 1} rows:
+     * the extra row only signals that another page exists and is not returned.
+     */
+    public static DeveloperPageDto of(List<DeveloperDto> developers, int limit) {
+        List<DeveloperDto> content = developers.size() > limit ? developers.subList(0, limit) : developers;
+        Integer nextCursor = developers.size() > limit ? content.get(content.size() - 1).getId() : null;
+        return DeveloperPageDto.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.dmadev.qadevs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperSearchPageDto {
+    private List<DeveloperDto> content;
+    private Integer nextOffset;
+
+    /**
+     * Ranked results cannot be paged by id, so pages are offsets into the ranking. Like
+     * {@link DeveloperPageDto#of}, the search was asked for {@code limit + 1} rows to detect a next page.
+     */
+    public static DeveloperSearchPageDto of(List<DeveloperDto> developers, int offset, int limit) {
+        boolean hasNext = developers.size() > limit;
+        return DeveloperSearchPageDto.builder()
+                .content(hasNext ? developers.subList(0, limit) : developers)
+                .nextOffset(hasNext ? offset + limit : null)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.dmadev.qadevs.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeveloperStatsDto {
+    private long active;
+    private long deleted;
+    private Map<String, Long> activeBySpecialty;
+}
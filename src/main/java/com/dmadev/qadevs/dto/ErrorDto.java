@@ -14,4 +14,5 @@ import lombok.NoArgsConstructor;
 public class ErrorDto {
     private Integer status;
     private String message;
+    private Integer index;
 }
@@ -1,27 +1,39 @@
 package com.dmadev.qadevs.entity;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@DynamicUpdate
 @Table(name = "developers")
 public class DeveloperEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developers_seq")
+    @SequenceGenerator(name = "developers_seq", sequenceName = "developers_seq", allocationSize = 50)
     private Integer id;
 
     private String email;
@@ -30,8 +42,27 @@ public class DeveloperEntity {
 
     private String lastName;
 
+    /**
+     * Stored as the id of the name in the {@code specialties} dictionary, see {@link SpecialtyConverter}.
+     */
+    @Convert(converter = SpecialtyConverter.class)
+    @Column(name = "specialty_id")
     private String specialty;
 
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 16)
     private Status status;
+
+    @Version
+    @Column(nullable = false)
+    private Integer version;
+
+    /**
+     * Position of the row in the change feed. Stamped on every insert and on every UPDATE dirty checking
+     * issues; the single-statement soft deletes set it themselves.
+     */
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private Instant updatedAt;
 }
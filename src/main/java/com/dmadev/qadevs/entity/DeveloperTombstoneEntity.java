@@ -0,0 +1,30 @@
+package com.dmadev.qadevs.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * What is left of a hard-deleted developer, so the change feed can still report the removal.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "developer_tombstones")
+public class DeveloperTombstoneEntity {
+
+    @Id
+    private Integer developerId;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+}
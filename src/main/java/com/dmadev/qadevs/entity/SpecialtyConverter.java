@@ -0,0 +1,36 @@
+package com.dmadev.qadevs.entity;
+
+import com.dmadev.qadevs.service.SpecialtyDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps a developer's specialty name to its id in the {@link SpecialtyDictionary}, in both directions and for
+ * query parameters compared against the attribute. It only looks names up and never registers them: a name
+ * that was never registered becomes {@code null}, which matches no row, so writers register names through the
+ * dictionary before saving. Created by Hibernate through the Spring bean container; the dictionary is injected
+ * lazily since it needs the transaction manager, which needs the entity manager factory that is being built
+ * when converters are created.
+ */
+@Component
+@Converter
+public class SpecialtyConverter implements AttributeConverter<String, Short> {
+
+    private final SpecialtyDictionary specialtyDictionary;
+
+    public SpecialtyConverter(@Lazy SpecialtyDictionary specialtyDictionary) {
+        this.specialtyDictionary = specialtyDictionary;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(String specialty) {
+        return specialtyDictionary.idOf(specialty);
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short specialtyId) {
+        return specialtyDictionary.nameOf(specialtyId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dmadev.qadevs.event;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by the service after every developer write, inside its transaction. {@code developer} holds the written state
+ * for creates and updates and is {@code null} for deletes, which are executed as single statements.
+ * Bulk deletes publish one event per developer they actually deleted; requested ids that matched no row get none.
+ */
+@Getter
+@AllArgsConstructor
+public class DeveloperChangedEvent {
+    private final ChangeType type;
+    private final Integer id;
+    private final DeveloperEntity developer;
+
+    public enum ChangeType {
+        CREATED, UPDATED, SOFT_DELETED, HARD_DELETED
+    }
+}
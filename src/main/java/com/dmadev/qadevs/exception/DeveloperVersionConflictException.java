@@ -0,0 +1,7 @@
+package com.dmadev.qadevs.exception;
+
+public class DeveloperVersionConflictException extends RuntimeException{
+    public DeveloperVersionConflictException(String message) {
+        super(message);
+    }
+}
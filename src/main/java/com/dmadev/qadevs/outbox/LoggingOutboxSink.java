@@ -0,0 +1,23 @@
+package com.dmadev.qadevs.outbox;
+
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink until a real destination is configured ({@code qadevs.outbox.sink}).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "qadevs.outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxSink implements OutboxSink {
+
+    @Override
+    public void send(List<OutboxEventEntity> events) {
+        events.forEach(event -> log.info("Developer event {}: {} of developer {}",
+                event.getId(), event.getType(), event.getDeveloperId()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.dmadev.qadevs.outbox;
+
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import com.dmadev.qadevs.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Drains the outbox in batches: claim, hand to the {@link OutboxSink}, delete, commit. Each batch is its
+ * own transaction, so row locks are held only for one send. Instances skip each other's locked rows and can
+ * all run the dispatcher; events of one developer may then be delivered out of id order across batches.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatcher {
+
+    private static final int DISPATCH_BATCH_SIZE = 200;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${qadevs.outbox.dispatch-interval:PT1S}",
+            initialDelayString = "${qadevs.outbox.dispatch-interval:PT1S}")
+    public void dispatch() {
+        Integer dispatched;
+        do {
+            dispatched = transactionTemplate.execute(status -> dispatchBatch());
+        } while (dispatched != null && dispatched == DISPATCH_BATCH_SIZE);
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEventEntity> batch = outboxEventRepository.claimBatch(PageRequest.ofSize(DISPATCH_BATCH_SIZE));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        outboxSink.send(batch);
+        outboxEventRepository.deleteDispatched(batch.stream().map(OutboxEventEntity::getId).toList());
+        meterRegistry.counter(MetricsConfig.OUTBOX_DISPATCHED_COUNTER).increment(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,17 @@
+package com.dmadev.qadevs.outbox;
+
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+
+import java.util.List;
+
+/**
+ * Destination of dispatched outbox events, e.g. a message broker producer.
+ * <p>
+ * A batch is deleted from the outbox only after {@link #send} returns, in the same transaction that
+ * claimed it; an exception leaves the batch in place to be retried. Delivery is therefore at least once,
+ * and consumers deduplicate on the event id to make it effectively exactly once.
+ */
+public interface OutboxSink {
+
+    void send(List<OutboxEventEntity> events);
+}
@@ -0,0 +1,45 @@
+package com.dmadev.qadevs.outbox;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Records every {@link DeveloperChangedEvent} in the outbox. A plain (not transactional) listener runs
+ * synchronously inside the service transaction that published the event, so the outbox row commits or
+ * rolls back together with the developer change, and the write path never waits on the real sink.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        outboxEventRepository.save(OutboxEventEntity.builder()
+                .developerId(event.getId())
+                .type(event.getType())
+                .payload(event.getDeveloper() == null ? null : toJson(DeveloperDto.fromEntity(event.getDeveloper())))
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    private String toJson(DeveloperDto developer) {
+        try {
+            return objectMapper.writeValueAsString(developer);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
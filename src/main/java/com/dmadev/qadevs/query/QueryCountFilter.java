@@ -0,0 +1,62 @@
+package com.dmadev.qadevs.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Reports the statements executed and rows fetched while serving a request, as response headers and as
+ * {@code qadevs.http.queries}/{@code qadevs.http.rows} summaries per URI pattern. The body is buffered so
+ * the headers can be set after the handler has run; asynchronous (streaming) responses bypass the buffer
+ * and are not reported, because their queries run on another thread.
+ */
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCounter.reset();
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response) {
+            @Override
+            public ServletOutputStream getOutputStream() throws IOException {
+                return request.isAsyncStarted() ? getResponse().getOutputStream() : super.getOutputStream();
+            }
+        };
+        filterChain.doFilter(request, responseWrapper);
+        if (request.isAsyncStarted()) {
+            return;
+        }
+        long statements = QueryCounter.statements();
+        long rows = QueryCounter.rows();
+        responseWrapper.setHeader(STATEMENTS_HEADER, Long.toString(statements));
+        responseWrapper.setHeader(ROWS_HEADER, Long.toString(rows));
+        responseWrapper.copyBodyToResponse();
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder("qadevs.http.queries")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        DistributionSummary.builder("qadevs.http.rows")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
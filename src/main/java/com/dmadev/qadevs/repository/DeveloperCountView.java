@@ -0,0 +1,11 @@
+package com.dmadev.qadevs.repository;
+
+import com.dmadev.qadevs.entity.Status;
+
+public interface DeveloperCountView {
+    Status getStatus();
+
+    String getSpecialty();
+
+    Long getCount();
+}
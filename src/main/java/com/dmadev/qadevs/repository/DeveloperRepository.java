@@ -1,16 +1,152 @@
 package com.dmadev.qadevs.repository;
 
+import com.dmadev.qadevs.config.CacheConfig;
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
+import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface DeveloperRepository  extends JpaRepository<DeveloperEntity,Integer> {
 
     Optional <DeveloperEntity> findByEmail(String email);
 
-    @Query("SELECT d from DeveloperEntity d where d.status='ACTIVE' AND d.specialty=?1")
-    List<DeveloperEntity> findAllActiveBySpecialty(String specialty);
+    /**
+     * Cached variants of the single-row lookups for read paths. Never use them to load an entity
+     * that is going to be modified: the returned instance is shared and not managed.
+     */
+    @Cacheable(cacheNames = CacheConfig.DEVELOPERS_BY_ID)
+    Optional<DeveloperEntity> findCachedById(Integer id);
+
+    @Cacheable(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL)
+    Optional<DeveloperEntity> findCachedByEmail(String email);
+
+    /**
+     * List reads select straight into DeveloperDto through a constructor expression: no managed entities,
+     * no loaded-state snapshots for dirty checking and no entity-to-DTO copy per row. The specialty name is
+     * bound through {@link com.dmadev.qadevs.entity.SpecialtyConverter}, so rows are matched on
+     * {@code specialty_id}; a name that was never registered matches no row.
+     */
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperDto(d.id, d.firstName, d.lastName, d.email, d.specialty, d.status) " +
+            "FROM DeveloperEntity d WHERE d.status = 'ACTIVE' AND d.specialty = ?1")
+    List<DeveloperDto> findAllActiveBySpecialty(String specialty);
+
+    @Query("SELECT d.id AS id, d.specialty AS specialty FROM DeveloperEntity d WHERE d.status = 'ACTIVE'")
+    List<DeveloperSpecialtyView> findActiveSpecialties();
+
+    /**
+     * Row counts per status and specialty, grouped on the integer {@code specialty_id}.
+     */
+    @Query("SELECT d.status AS status, d.specialty AS specialty, COUNT(d) AS count FROM DeveloperEntity d " +
+            "GROUP BY d.status, d.specialty")
+    List<DeveloperCountView> countByStatusAndSpecialty();
+
+    @Query("SELECT d.email FROM DeveloperEntity d WHERE d.email IN ?1")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperDto(d.id, d.firstName, d.lastName, d.email, d.specialty, d.status) " +
+            "FROM DeveloperEntity d WHERE d.status = ?1")
+    List<DeveloperDto> findAllByStatus(Status status);
+
+    /**
+     * Keyset page: rows with the given status and an id strictly greater than {@code afterId},
+     * ordered by id. Served from the (status, id) index, so the cost does not depend on the page depth;
+     * on PostgreSQL deleted rows have a partial index of their own, which holds none of the active ones.
+     */
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperDto(d.id, d.firstName, d.lastName, d.email, d.specialty, d.status) " +
+            "FROM DeveloperEntity d WHERE d.status = ?1 AND d.id > ?2 ORDER BY d.id")
+    List<DeveloperDto> findPageByStatus(Status status, Integer afterId, Pageable pageable);
+
+    /**
+     * The ids may come from an in-memory index that lags behind other writers, so the status is checked again here.
+     */
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperDto(d.id, d.firstName, d.lastName, d.email, d.specialty, d.status) " +
+            "FROM DeveloperEntity d WHERE d.id IN ?1 AND d.status = com.dmadev.qadevs.entity.Status.ACTIVE ORDER BY d.id")
+    List<DeveloperDto> findActiveDtosById(Collection<Integer> ids);
+
+    /**
+     * Developers changed strictly after the (updatedAt, id) cursor and before {@code until}, in feed order.
+     * A keyset read of the (updated_at, id) index, so a poll costs what changed, not the table size.
+     */
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperChangeDto(d.id, d.updatedAt, d.firstName, d.lastName, d.email, " +
+            "d.specialty, d.status) FROM DeveloperEntity d " +
+            "WHERE (d.updatedAt > ?1 OR (d.updatedAt = ?1 AND d.id > ?2)) AND d.updatedAt < ?3 " +
+            "ORDER BY d.updatedAt, d.id")
+    List<DeveloperChangeDto> findChangesAfter(Instant changedAt, Integer id, Instant until, Pageable pageable);
+
+    /**
+     * PostgreSQL only. Active developers whose {@code search_text} matches every LIKE pattern in {@code patterns},
+     * ranked by word similarity to {@code query}, then by id. The trigram index serves the word similarity
+     * pre-filter on {@code indexedWord} (GIN cannot serve {@code LIKE ALL}), so it should be the most selective
+     * word; it keeps prefixes of a word but drops short fragments from its middle. The ranking covers every
+     * candidate, so a page never depends on which rows the index happened to return first.
+     */
+    @Query(value = "SELECT * FROM developers WHERE status = 'ACTIVE' " +
+            "AND ?1 <% search_text AND search_text LIKE ALL (?2) " +
+            "ORDER BY word_similarity(?3, search_text) DESC, id LIMIT ?4 OFFSET ?5", nativeQuery = true)
+    List<DeveloperEntity> searchActive(String indexedWord, String[] patterns, String query, int limit, int offset);
+
+    /**
+     * Server-side cursor over every row with the given status. Must be consumed inside a transaction
+     * and closed by the caller; rows are fetched from the database in chunks of the fetch size.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT d FROM DeveloperEntity d WHERE d.status = ?1 ORDER BY d.id")
+    Stream<DeveloperEntity> streamAllByStatus(Status status);
+
+    /**
+     * Single-statement deletes; callers must run them in a transaction and use the returned row count
+     * to tell whether the developers existed. Soft delete only matches developers that are still active
+     * and bumps the version and the change time like any other update.
+     */
+    @Modifying
+    @Query("UPDATE DeveloperEntity d SET d.status = com.dmadev.qadevs.entity.Status.DELETED, d.version = d.version + 1, " +
+            "d.updatedAt = ?2 WHERE d.id = ?1 AND d.status = com.dmadev.qadevs.entity.Status.ACTIVE")
+    int softDeleteById(Integer id, Instant updatedAt);
+
+    /**
+     * Ids of the given developers that are still active, locked until the end of the transaction so that
+     * a concurrent delete cannot change them before this transaction does.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d.id FROM DeveloperEntity d WHERE d.id IN ?1 AND d.status = com.dmadev.qadevs.entity.Status.ACTIVE")
+    List<Integer> lockActiveIdsByIdIn(Collection<Integer> ids);
+
+    /**
+     * Ids of the given developers that exist, locked until the end of the transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d.id FROM DeveloperEntity d WHERE d.id IN ?1")
+    List<Integer> lockIdsByIdIn(Collection<Integer> ids);
+
+    @Modifying
+    @Query("UPDATE DeveloperEntity d SET d.status = com.dmadev.qadevs.entity.Status.DELETED, d.version = d.version + 1, " +
+            "d.updatedAt = ?2 WHERE d.id IN ?1 AND d.status = com.dmadev.qadevs.entity.Status.ACTIVE")
+    int softDeleteByIdIn(Collection<Integer> ids, Instant updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM DeveloperEntity d WHERE d.id = ?1")
+    int hardDeleteById(Integer id);
+
+    @Modifying
+    @Query("DELETE FROM DeveloperEntity d WHERE d.id IN ?1")
+    int hardDeleteByIdIn(Collection<Integer> ids);
 }
@@ -0,0 +1,7 @@
+package com.dmadev.qadevs.repository;
+
+public interface DeveloperSpecialtyView {
+    Integer getId();
+
+    String getSpecialty();
+}
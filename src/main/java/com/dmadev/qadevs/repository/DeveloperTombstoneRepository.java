@@ -0,0 +1,33 @@
+package com.dmadev.qadevs.repository;
+
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
+import com.dmadev.qadevs.entity.DeveloperTombstoneEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface DeveloperTombstoneRepository extends JpaRepository<DeveloperTombstoneEntity, Integer> {
+
+    /**
+     * Leaves a tombstone for every given developer that still exists; must run in the same transaction
+     * as, and before, the hard delete of those developers.
+     */
+    @Modifying
+    @Query("INSERT INTO DeveloperTombstoneEntity (developerId, deletedAt) " +
+            "SELECT d.id, ?2 FROM DeveloperEntity d WHERE d.id IN ?1")
+    int insertForExisting(Collection<Integer> developerIds, Instant deletedAt);
+
+    /**
+     * Tombstones strictly after the (deletedAt, developerId) cursor and before {@code until}, in feed order.
+     */
+    @Query("SELECT new com.dmadev.qadevs.dto.DeveloperChangeDto(t.developerId, t.deletedAt) " +
+            "FROM DeveloperTombstoneEntity t " +
+            "WHERE (t.deletedAt > ?1 OR (t.deletedAt = ?1 AND t.developerId > ?2)) AND t.deletedAt < ?3 " +
+            "ORDER BY t.deletedAt, t.developerId")
+    List<DeveloperChangeDto> findChangesAfter(Instant changedAt, Integer id, Instant until, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.dmadev.qadevs.repository;
+
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    /**
+     * Oldest undelivered events, locked until the end of the transaction. A lock timeout of -2
+     * ({@code LockOptions.SKIP_LOCKED}) renders {@code FOR UPDATE SKIP LOCKED}, so concurrent dispatchers
+     * claim disjoint batches instead of queueing behind each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT e FROM OutboxEventEntity e ORDER BY e.id")
+    List<OutboxEventEntity> claimBatch(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.id IN ?1")
+    int deleteDispatched(Collection<Long> ids);
+}
@@ -0,0 +1,150 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperSpecialtyView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory specialty id -> sorted active ids index, see {@link SpecialtyDictionary}. Kept up to date from
+ * {@link DeveloperChangedEvent}s, which {@link DeveloperStatistics} applies so that it learns the state each
+ * change replaced, and fully rebuilt from the database on startup and periodically, which also picks up writes
+ * made by other instances. Reads are lock-free; writers are serialized. Changes that arrive while a rebuild
+ * reads the database are replayed onto the rebuilt index before it is swapped in, since the read may or may
+ * not have seen them; replaying a change twice leaves the same state.
+ * <p>
+ * Every active developer is tracked, including those without a specialty, so the index also answers
+ * whether a developer is active.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveSpecialtyIndex {
+
+    /**
+     * Stands in for "no specialty" in {@code specialtyById}; dictionary ids start at 1.
+     */
+    private static final Short NO_SPECIALTY = 0;
+
+    private final DeveloperRepository developerRepository;
+    private final SpecialtyDictionary specialtyDictionary;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile Map<Short, NavigableSet<Integer>> idsBySpecialty = new ConcurrentHashMap<>();
+    private volatile Map<Integer, Short> specialtyById = new ConcurrentHashMap<>();
+
+    /**
+     * Changes received while a rebuild is running, {@code null} otherwise. Guarded by {@code this}.
+     */
+    private List<Change> changesDuringRebuild;
+
+    /**
+     * Whether a developer was active before a change and, if so, its specialty id ({@code null} for none).
+     */
+    public record PreviousState(boolean active, Short specialtyId) {
+    }
+
+    private record Change(Integer id, boolean active, Short specialtyId) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${qadevs.specialty-index.rebuild-interval:PT10M}",
+            initialDelayString = "${qadevs.specialty-index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                List<DeveloperSpecialtyView> active = developerRepository.findActiveSpecialties();
+                Map<Short, NavigableSet<Integer>> rebuiltIds = new ConcurrentHashMap<>();
+                Map<Integer, Short> rebuiltSpecialties = new ConcurrentHashMap<>(active.size());
+                for (DeveloperSpecialtyView view : active) {
+                    Short specialtyId = specialtyDictionary.idOf(view.getSpecialty());
+                    if (specialtyId != null) {
+                        rebuiltIds.computeIfAbsent(specialtyId, key -> new ConcurrentSkipListSet<>()).add(view.getId());
+                    }
+                    rebuiltSpecialties.put(view.getId(), specialtyId == null ? NO_SPECIALTY : specialtyId);
+                }
+                synchronized (this) {
+                    changesDuringRebuild.forEach(change -> apply(rebuiltIds, rebuiltSpecialties, change));
+                    idsBySpecialty = rebuiltIds;
+                    specialtyById = rebuiltSpecialties;
+                }
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies a change and returns the state it replaced. {@code specialtyId} is the dictionary id of the
+     * developer's specialty, resolved by the caller so that no lookup runs under the writer lock.
+     */
+    public synchronized PreviousState apply(DeveloperChangedEvent event, Short specialtyId) {
+        Change change = switch (event.getType()) {
+            case CREATED, UPDATED -> new Change(event.getId(), event.getDeveloper().getStatus() == Status.ACTIVE,
+                    specialtyId);
+            case SOFT_DELETED, HARD_DELETED -> new Change(event.getId(), false, null);
+        };
+        Short previous = specialtyById.get(change.id());
+        apply(idsBySpecialty, specialtyById, change);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+        return new PreviousState(previous != null, NO_SPECIALTY.equals(previous) ? null : previous);
+    }
+
+    public boolean isActive(Integer id) {
+        return specialtyById.containsKey(id);
+    }
+
+    /**
+     * Up to {@code limit} active ids of the specialty that are greater than {@code afterId}, ascending.
+     */
+    public List<Integer> page(String specialty, Integer afterId, int limit) {
+        Short specialtyId = specialtyDictionary.idOf(specialty);
+        NavigableSet<Integer> ids = specialtyId == null ? null : idsBySpecialty.get(specialtyId);
+        if (ids == null) {
+            return List.of();
+        }
+        NavigableSet<Integer> tail = afterId == null ? ids : ids.tailSet(afterId, false);
+        return tail.stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private static void apply(Map<Short, NavigableSet<Integer>> idsBySpecialty, Map<Integer, Short> specialtyById,
+                              Change change) {
+        Short previous = specialtyById.remove(change.id());
+        if (previous != null) {
+            NavigableSet<Integer> ids = idsBySpecialty.get(previous);
+            if (ids != null) {
+                ids.remove(change.id());
+            }
+        }
+        if (!change.active()) {
+            return;
+        }
+        if (change.specialtyId() == null) {
+            specialtyById.put(change.id(), NO_SPECIALTY);
+            return;
+        }
+        idsBySpecialty.computeIfAbsent(change.specialtyId(), key -> new ConcurrentSkipListSet<>()).add(change.id());
+        specialtyById.put(change.id(), change.specialtyId());
+    }
+}
@@ -0,0 +1,23 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a bulk create: the stored developers and, keyed by their position
+ * in the request, the rows that were rejected.
+ */
+@Getter
+public class BulkSaveResult {
+    private final List<DeveloperEntity> saved = new ArrayList<>();
+    private final Map<Integer, String> rejected = new LinkedHashMap<>();
+
+    public void reject(int index, String message) {
+        rejected.put(index, message);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL search on the trigram-indexed {@code search_text} column: every query word has to occur,
+ * in any order, and matches are ranked by word similarity. Pages are cut off at {@link #MAX_RESULTS}, like
+ * the in-memory search does, so the top-N sort never holds more rows than that and the page that reaches the
+ * cap reports no next one.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("!'${spring.datasource.url:}'.startsWith('jdbc:h2:')")
+public class DatabaseDeveloperSearch implements DeveloperSearch {
+
+    private final DeveloperRepository developerRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> search(String query, int offset, int limit) {
+        int cappedLimit = Math.min(limit, MAX_RESULTS - offset);
+        if (cappedLimit <= 0) {
+            return List.of();
+        }
+        String normalized = query.trim().toLowerCase(Locale.ROOT);
+        String[] words = normalized.split("\\s+");
+        String[] patterns = Arrays.stream(words)
+                .map(word -> "%" + escapeLike(word) + "%")
+                .toArray(String[]::new);
+        // the longest word has the most trigrams, so it is the most selective index lookup
+        String indexedWord = Arrays.stream(words).max(Comparator.comparingInt(String::length)).orElseThrow();
+        return developerRepository.searchActive(indexedWord, patterns, normalized, cappedLimit, offset).stream()
+                .map(DeveloperDto::fromEntity)
+                .toList();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
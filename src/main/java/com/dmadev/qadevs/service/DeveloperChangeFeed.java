@@ -0,0 +1,71 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.dto.ChangeCursor;
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Incremental read of everything written after a {@link ChangeCursor}: changed developer rows plus
+ * tombstones of hard-deleted ones, merged in (change time, id) order.
+ * <p>
+ * Change times are taken before commit, so a slow transaction can commit a change that sorts before
+ * changes already handed out. Only changes older than the settle delay are served, which leaves such
+ * transactions that long to commit before the cursor moves past them. That only holds while no write
+ * transaction outlives the delay, so a delay shorter than the transaction timeout
+ * ({@code spring.transaction.default-timeout}) is refused at startup.
+ */
+@Component
+@Timed(value = MetricsConfig.DEVELOPER_SERVICE_TIMER, description = "DeveloperService method execution time")
+public class DeveloperChangeFeed {
+
+    private static final ChangeCursor BEGINNING = new ChangeCursor(Instant.EPOCH, 0);
+
+    private final DeveloperRepository developerRepository;
+    private final DeveloperTombstoneRepository developerTombstoneRepository;
+    private final Duration settleDelay;
+
+    public DeveloperChangeFeed(DeveloperRepository developerRepository,
+                               DeveloperTombstoneRepository developerTombstoneRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${qadevs.change-feed.settle-delay:PT30S}") Duration settleDelay) {
+        if (transactionManager instanceof AbstractPlatformTransactionManager manager && manager.getDefaultTimeout() > 0
+                && settleDelay.compareTo(Duration.ofSeconds(manager.getDefaultTimeout())) < 0) {
+            throw new IllegalStateException("qadevs.change-feed.settle-delay %s is shorter than the transaction timeout of %d s"
+                    .formatted(settleDelay, manager.getDefaultTimeout()));
+        }
+        this.developerRepository = developerRepository;
+        this.developerTombstoneRepository = developerTombstoneRepository;
+        this.settleDelay = settleDelay;
+    }
+
+    /**
+     * Returns up to {@code limit} changes after {@code since}, or from the beginning when it is {@code null}.
+     * Each source is read with the same limit, so the merged list is exact for its first {@code limit} entries.
+     */
+    @Transactional(readOnly = true)
+    public List<DeveloperChangeDto> getChangesSince(ChangeCursor since, int limit) {
+        ChangeCursor after = since == null ? BEGINNING : since;
+        Instant until = Instant.now().minus(settleDelay);
+        PageRequest page = PageRequest.ofSize(limit);
+        List<DeveloperChangeDto> changes = new ArrayList<>(
+                developerRepository.findChangesAfter(after.changedAt(), after.id(), until, page));
+        changes.addAll(developerTombstoneRepository.findChangesAfter(after.changedAt(), after.id(), until, page));
+        changes.sort(Comparator.comparing(DeveloperChangeDto::getChangedAt).thenComparing(DeveloperChangeDto::getId));
+        return changes.size() > limit ? changes.subList(0, limit) : changes;
+    }
+}
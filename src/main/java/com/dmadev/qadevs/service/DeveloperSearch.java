@@ -0,0 +1,27 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+
+import java.util.List;
+
+/**
+ * Type-ahead search over active developers' names, emails and specialties.
+ */
+public interface DeveloperSearch {
+
+    /**
+     * Shorter queries match too much to be answered from an index.
+     */
+    int MIN_QUERY_LENGTH = 3;
+
+    /**
+     * Only this many best matches are reachable through paging; type-ahead never pages that far and the
+     * bound keeps the cost of very common terms flat.
+     */
+    int MAX_RESULTS = 1000;
+
+    /**
+     * Active developers matching {@code query}, best matches first, then by id.
+     */
+    List<DeveloperDto> search(String query, int offset, int limit);
+}
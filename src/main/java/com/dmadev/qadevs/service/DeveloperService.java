@@ -1,27 +1,69 @@
 package com.dmadev.qadevs.service;
 
+import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DeveloperService {
 
     DeveloperEntity saveDeveloper(DeveloperEntity developer);
 
+    BulkSaveResult saveDevelopers(List<DeveloperEntity> developers);
+
     DeveloperEntity updateDeveloper(DeveloperEntity developer);
 
+    /**
+     * Applies the non-null fields of {@code changes} to the developer with the given id.
+     */
+    DeveloperEntity patchDeveloper(Integer id, DeveloperEntity changes);
+
     DeveloperEntity getDeveloperById(Integer id);
 
     Optional<DeveloperEntity> getDeveloperByEmail(String email);
 
-    List<DeveloperEntity> getAllDevelopers();
-    List<DeveloperEntity> getAllOnBenchDevelopers();
+    /**
+     * The developers with the given ids that exist, by id; unknown ids are absent from the map.
+     */
+    Map<Integer, DeveloperEntity> getDevelopersByIds(Collection<Integer> ids);
+
+    List<DeveloperDto> getAllDevelopers();
+
+    List<DeveloperDto> getActiveDevelopersPage(Integer cursor, int limit);
+
+    /**
+     * Keyset page of deleted developers, the bench; see {@link #getActiveDevelopersPage}.
+     */
+    List<DeveloperDto> getBenchDevelopersPage(Integer cursor, int limit);
 
+    void exportDevelopers(Status status, Consumer<DeveloperEntity> consumer);
 
-    List<DeveloperEntity> getAllActiveBySpecialty(String specialty);
+
+    List<DeveloperDto> getAllActiveBySpecialty(String specialty);
+
+    List<DeveloperDto> getActiveBySpecialtyPage(String specialty, Integer cursor, int limit);
+
+    /**
+     * Ranked type-ahead search over active developers, see {@link DeveloperSearch}.
+     */
+    List<DeveloperDto> searchDevelopers(String query, int offset, int limit);
 
     void softDeleteById(Integer id);
 
     void hardDeleteById(Integer id);
+
+    /**
+     * Soft-deletes every listed developer that is still active and returns how many were changed.
+     */
+    int softDeleteAllById(Collection<Integer> ids);
+
+    /**
+     * Hard-deletes every listed developer that exists and returns how many were removed.
+     */
+    int hardDeleteAllById(Collection<Integer> ids);
 }
@@ -1,54 +1,242 @@
 package com.dmadev.qadevs.service;
 
+import com.dmadev.qadevs.config.CacheConfig;
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
 import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
 import com.dmadev.qadevs.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.exception.DeveloperVersionConflictException;
 import com.dmadev.qadevs.exception.DeveloperWithDuplicateEmailException;
 import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = MetricsConfig.DEVELOPER_SERVICE_TIMER, description = "DeveloperService method execution time")
 public class DeveloperServiceImpl implements DeveloperService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final String DUPLICATE_EMAIL_MESSAGE = "Developer with defined email is already exists";
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "uk_developers_email";
+
     private final DeveloperRepository developerRepository;
+    private final DeveloperTombstoneRepository developerTombstoneRepository;
+    private final EntityManager entityManager;
+    private final ActiveSpecialtyIndex activeSpecialtyIndex;
+    private final DeveloperSearch developerSearch;
+    private final SpecialtyDictionary specialtyDictionary;
+    private final CacheManager cacheManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, key = "#result.id"),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, key = "#result.email")
+    })
     public DeveloperEntity saveDeveloper(DeveloperEntity developer) {
-        Optional<DeveloperEntity> duplicateCandidate = developerRepository.findByEmail(developer.getEmail());
-        if (duplicateCandidate.isPresent()) {
-            throw new DeveloperWithDuplicateEmailException("Developer with defined email is already exists");
-        }
+        developer.setId(null);
+        developer.setEmail(normalizeEmail(developer.getEmail()));
+        developer.setSpecialty(specialtyDictionary.canonicalName(developer.getSpecialty()));
         developer.setStatus(Status.ACTIVE);
-        return developerRepository.save(developer);
+        DeveloperEntity savedDeveloper;
+        try {
+            savedDeveloper = developerRepository.saveAndFlush(developer);
+        } catch (DataIntegrityViolationException exception) {
+            throw translateDuplicateEmail(exception);
+        }
+        eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.CREATED, savedDeveloper.getId(), savedDeveloper));
+        return savedDeveloper;
+    }
+
+    /**
+     * Each chunk is written under a savepoint. A concurrent request can still take an email between the probe
+     * and the flush; the chunk is then rolled back to its savepoint and retried row by row, so that only the
+     * rows that lost the race are rejected.
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
+    public BulkSaveResult saveDevelopers(List<DeveloperEntity> developers) {
+        BulkSaveResult result = new BulkSaveResult();
+        for (int from = 0; from < developers.size(); from += BULK_CHUNK_SIZE) {
+            List<DeveloperEntity> chunk = developers.subList(from, Math.min(from + BULK_CHUNK_SIZE, developers.size()));
+            chunk.forEach(developer -> {
+                developer.setEmail(normalizeEmail(developer.getEmail()));
+                developer.setSpecialty(specialtyDictionary.canonicalName(developer.getSpecialty()));
+            });
+            List<String> emails = chunk.stream()
+                    .map(DeveloperEntity::getEmail)
+                    .filter(Objects::nonNull)
+                    .toList();
+            // one probe per chunk; also catches duplicates inside the batch itself
+            Set<String> takenEmails = new HashSet<>(developerRepository.findExistingEmails(emails));
+            Map<Integer, DeveloperEntity> toSave = new LinkedHashMap<>(chunk.size());
+            for (int i = 0; i < chunk.size(); i++) {
+                DeveloperEntity developer = chunk.get(i);
+                if (developer.getEmail() != null && !takenEmails.add(developer.getEmail())) {
+                    result.reject(from + i, DUPLICATE_EMAIL_MESSAGE);
+                    continue;
+                }
+                developer.setId(null);
+                developer.setStatus(Status.ACTIVE);
+                toSave.put(from + i, developer);
+            }
+            List<DeveloperEntity> savedDevelopers = saveChunk(toSave, result);
+            entityManager.clear();
+            savedDevelopers.forEach(saved ->
+                    eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.CREATED, saved.getId(), saved)));
+            // the outbox rows of this chunk are still pending inserts; the next chunk's savepoint rollback
+            // and clear() would drop them while the developers they describe commit
+            entityManager.flush();
+            result.getSaved().addAll(savedDevelopers);
+        }
+        return result;
+    }
+
+    private List<DeveloperEntity> saveChunk(Map<Integer, DeveloperEntity> toSave, BulkSaveResult result) {
+        try {
+            return savepoint().execute(status -> {
+                List<DeveloperEntity> savedDevelopers = developerRepository.saveAll(new ArrayList<>(toSave.values()));
+                developerRepository.flush();
+                return savedDevelopers;
+            });
+        } catch (DataIntegrityViolationException exception) {
+            if (translateDuplicateEmail(exception) == exception) {
+                throw exception;
+            }
+        }
+        entityManager.clear();
+        List<DeveloperEntity> savedDevelopers = new ArrayList<>(toSave.size());
+        toSave.forEach((index, developer) -> {
+            // the rolled back insert left its generated id and initial version behind
+            developer.setId(null);
+            developer.setVersion(null);
+            try {
+                savedDevelopers.add(savepoint().execute(status -> developerRepository.saveAndFlush(developer)));
+            } catch (DataIntegrityViolationException exception) {
+                RuntimeException translated = translateDuplicateEmail(exception);
+                if (translated == exception) {
+                    throw exception;
+                }
+                entityManager.clear();
+                result.reject(index, translated.getMessage());
+            }
+        });
+        return savedDevelopers;
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, key = "#developer.id"),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
     public DeveloperEntity updateDeveloper(DeveloperEntity developer) {
-        boolean existsById = developerRepository.existsById(developer.getId());
-        if (!existsById) {
-            throw new DeveloperNotFoundException("Developer with id: %d is not exist".formatted(developer.getId()));
+        DeveloperEntity managedDeveloper = developerRepository.findById(developer.getId()).orElseThrow(() ->
+                new DeveloperNotFoundException("Developer with id: %d is not exist".formatted(developer.getId())));
+        checkExpectedVersion(managedDeveloper, developer.getVersion());
+        managedDeveloper.setEmail(normalizeEmail(developer.getEmail()));
+        managedDeveloper.setFirstName(developer.getFirstName());
+        managedDeveloper.setLastName(developer.getLastName());
+        managedDeveloper.setSpecialty(specialtyDictionary.canonicalName(developer.getSpecialty()));
+        // an omitted status keeps the current one instead of violating the NOT NULL column
+        if (developer.getStatus() != null) {
+            managedDeveloper.setStatus(developer.getStatus());
         }
-        return developerRepository.save(developer);
+        flushTranslatingDuplicateEmail();
+        eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.UPDATED, managedDeveloper.getId(), managedDeveloper));
+        return managedDeveloper;
+    }
 
+    /**
+     * Changes the managed entity in place: dirty checking plus {@code @DynamicUpdate} turn it into
+     * one UPDATE of the changed columns only, and none at all when nothing changed. A non-null
+     * {@code changes.version} is the version the client last saw (its If-Match).
+     */
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
+    public DeveloperEntity patchDeveloper(Integer id, DeveloperEntity changes) {
+        DeveloperEntity developer = developerRepository.findById(id).orElseThrow(() ->
+                new DeveloperNotFoundException("Developer with id: %d is not exist".formatted(id)));
+        checkExpectedVersion(developer, changes.getVersion());
+        if (changes.getEmail() != null) {
+            developer.setEmail(normalizeEmail(changes.getEmail()));
+        }
+        if (changes.getFirstName() != null) {
+            developer.setFirstName(changes.getFirstName());
+        }
+        if (changes.getLastName() != null) {
+            developer.setLastName(changes.getLastName());
+        }
+        if (changes.getSpecialty() != null) {
+            developer.setSpecialty(specialtyDictionary.canonicalName(changes.getSpecialty()));
+        }
+        if (changes.getStatus() != null) {
+            developer.setStatus(changes.getStatus());
+        }
+        flushTranslatingDuplicateEmail();
+        eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.UPDATED, id, developer));
+        return developer;
     }
 
     @Override
     public DeveloperEntity getDeveloperById(Integer id) {
 
-        return developerRepository.findById(id).orElseThrow(() ->
+        return developerRepository.findCachedById(id).orElseThrow(() ->
                 new DeveloperNotFoundException("Developer with id: %d is not exist".formatted(id))
         );
     }
 
     @Override
     public Optional<DeveloperEntity> getDeveloperByEmail(String email) {
-        Optional<DeveloperEntity> byEmail = developerRepository.findByEmail(email);
+        Optional<DeveloperEntity> byEmail = developerRepository.findCachedByEmail(normalizeEmail(email));
         if (byEmail.isEmpty()) {
             throw new DeveloperNotFoundException("Developer with  email %s is not exist".formatted(email));
         }
@@ -56,42 +244,219 @@ public class DeveloperServiceImpl implements DeveloperService {
         return byEmail;
     }
 
+    /**
+     * Reads the by-id cache entry by entry, like {@code findCachedById} would, and loads whatever it did not hold
+     * with a single IN query; loaded developers and misses are cached in turn. Without a cache every id is
+     * loaded by that one query.
+     */
+    @Override
+    public Map<Integer, DeveloperEntity> getDevelopersByIds(Collection<Integer> ids) {
+        Cache cache = cacheManager.getCache(CacheConfig.DEVELOPERS_BY_ID);
+        Map<Integer, DeveloperEntity> found = new HashMap<>(ids.size());
+        List<Integer> uncached = new ArrayList<>();
+        for (Integer id : ids) {
+            Cache.ValueWrapper cached = cache == null ? null : cache.get(id);
+            if (cached == null) {
+                uncached.add(id);
+            } else if (cached.get() instanceof DeveloperEntity developer) {
+                found.put(id, developer);
+            }
+        }
+        if (uncached.isEmpty()) {
+            return found;
+        }
+        Map<Integer, DeveloperEntity> loaded = developerRepository.findAllById(uncached).stream()
+                .collect(Collectors.toMap(DeveloperEntity::getId, Function.identity()));
+        for (Integer id : uncached) {
+            DeveloperEntity developer = loaded.get(id);
+            if (cache != null) {
+                cache.put(id, developer);
+            }
+            if (developer != null) {
+                found.put(id, developer);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getAllDevelopers() {
+        return developerRepository.findAllByStatus(Status.ACTIVE);
+    }
+
     @Override
-    public List<DeveloperEntity> getAllDevelopers() {
-        return developerRepository.findAll()
-                .stream()
-                .filter(developer->developer.getStatus().equals(Status.ACTIVE))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getActiveDevelopersPage(Integer cursor, int limit) {
+        Integer afterId = cursor == null ? 0 : cursor;
+        return developerRepository.findPageByStatus(Status.ACTIVE, afterId, PageRequest.ofSize(limit));
     }
 
     @Override
-    public List<DeveloperEntity> getAllOnBenchDevelopers() {
-        return developerRepository.findAll()
-                .stream()
-                .filter(developer -> developer.getStatus()==Status.DELETED)
-                .toList();
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getBenchDevelopersPage(Integer cursor, int limit) {
+        Integer afterId = cursor == null ? 0 : cursor;
+        return developerRepository.findPageByStatus(Status.DELETED, afterId, PageRequest.ofSize(limit));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportDevelopers(Status status, Consumer<DeveloperEntity> consumer) {
+        try (Stream<DeveloperEntity> developers = developerRepository.streamAllByStatus(status)) {
+            developers.forEach(developer -> {
+                consumer.accept(developer);
+                // keep the persistence context empty so memory does not grow with the export size
+                entityManager.detach(developer);
+            });
+        }
+    }
 
     @Override
-    public List<DeveloperEntity> getAllActiveBySpecialty(String specialty) {
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getAllActiveBySpecialty(String specialty) {
         return developerRepository.findAllActiveBySpecialty(specialty);
     }
 
+    /**
+     * Rows the status recheck drops are topped up from further index ids, so a full page still means that
+     * more rows may follow and the caller's {@code limit + 1} probe keeps working.
+     */
     @Override
+    @Transactional(readOnly = true)
+    public List<DeveloperDto> getActiveBySpecialtyPage(String specialty, Integer cursor, int limit) {
+        List<DeveloperDto> developers = new ArrayList<>(limit);
+        Integer afterId = cursor;
+        while (developers.size() < limit) {
+            int missing = limit - developers.size();
+            List<Integer> ids = activeSpecialtyIndex.page(specialty, afterId, missing);
+            if (ids.isEmpty()) {
+                break;
+            }
+            developers.addAll(developerRepository.findActiveDtosById(ids));
+            if (ids.size() < missing) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        return developers;
+    }
+
+    @Override
+    public List<DeveloperDto> searchDevelopers(String query, int offset, int limit) {
+        return developerSearch.search(query, offset, limit);
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
     public void softDeleteById(Integer id) {
-        DeveloperEntity obtainedDeveloper = developerRepository.findById(id).orElseThrow(
-                () -> new DeveloperNotFoundException("Developer with id: %d not found".formatted(id))
-        );
-        obtainedDeveloper.setStatus(Status.DELETED);
-        developerRepository.save(obtainedDeveloper);
+        if (developerRepository.softDeleteById(id, changeTime()) == 0) {
+            throw new DeveloperNotFoundException("Developer with id: %d not found".formatted(id));
+        }
+        eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, id, null));
     }
 
     @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
     public void hardDeleteById(Integer id) {
-        DeveloperEntity obtainedDeveloper = developerRepository.findById(id).orElseThrow(
-                () -> new DeveloperNotFoundException("Developer with id: %d not found".formatted(id))
-        );
-        developerRepository.deleteById(obtainedDeveloper.getId());
+        developerTombstoneRepository.insertForExisting(List.of(id), changeTime());
+        if (developerRepository.hardDeleteById(id) == 0) {
+            throw new DeveloperNotFoundException("Developer with id: %d not found".formatted(id));
+        }
+        eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.HARD_DELETED, id, null));
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
+    public int softDeleteAllById(Collection<Integer> ids) {
+        // only the rows this statement changes get an event; missing, deleted and repeated ids get none
+        List<Integer> affectedIds = developerRepository.lockActiveIdsByIdIn(ids);
+        if (affectedIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = developerRepository.softDeleteByIdIn(affectedIds, changeTime());
+        affectedIds.forEach(id -> eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, id, null)));
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_ID, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.DEVELOPERS_BY_EMAIL, allEntries = true)
+    })
+    public int hardDeleteAllById(Collection<Integer> ids) {
+        List<Integer> affectedIds = developerRepository.lockIdsByIdIn(ids);
+        if (affectedIds.isEmpty()) {
+            return 0;
+        }
+        developerTombstoneRepository.insertForExisting(affectedIds, changeTime());
+        int deleted = developerRepository.hardDeleteByIdIn(affectedIds);
+        affectedIds.forEach(id -> eventPublisher.publishEvent(new DeveloperChangedEvent(ChangeType.HARD_DELETED, id, null)));
+        return deleted;
+    }
+
+    /**
+     * Emails are stored lower-cased so the unique index on the column is effectively case-insensitive.
+     */
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Change time for the statements that bypass dirty checking, at the precision the column stores.
+     */
+    private static Instant changeTime() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * The early check answers stale clients without writing; the version condition of the UPDATE itself
+     * catches a concurrent writer that committed between our read and our flush.
+     */
+    private static void checkExpectedVersion(DeveloperEntity developer, Integer expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(developer.getVersion())) {
+            throw new DeveloperVersionConflictException("Developer with id: %d has version %d, expected %d"
+                    .formatted(developer.getId(), developer.getVersion(), expectedVersion));
+        }
+    }
+
+    /**
+     * A nested transaction: rolling it back returns to a savepoint and keeps the caller's transaction usable.
+     */
+    private TransactionTemplate savepoint() {
+        TransactionTemplate savepoint = new TransactionTemplate(transactionManager);
+        savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        return savepoint;
+    }
+
+    private void flushTranslatingDuplicateEmail() {
+        try {
+            developerRepository.flush();
+        } catch (DataIntegrityViolationException exception) {
+            throw translateDuplicateEmail(exception);
+        } catch (OptimisticLockingFailureException exception) {
+            throw new DeveloperVersionConflictException("Developer was modified concurrently");
+        }
+    }
+
+    private static RuntimeException translateDuplicateEmail(DataIntegrityViolationException exception) {
+        if (exception.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(EMAIL_UNIQUE_CONSTRAINT)) {
+            return new DeveloperWithDuplicateEmailException(DUPLICATE_EMAIL_MESSAGE);
+        }
+        return exception;
     }
 }
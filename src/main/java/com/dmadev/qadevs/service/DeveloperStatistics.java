@@ -0,0 +1,158 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperStatsDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.repository.DeveloperCountView;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Roster counters: active and deleted totals and active developers per specialty. Adjusted by every
+ * {@link DeveloperChangedEvent} and reconciled against a {@code GROUP BY} periodically, like
+ * {@link ActiveSpecialtyIndex} is rebuilt. Reading them costs the same at any table size.
+ * <p>
+ * Deletes carry no developer, so the state before a change is the one {@link ActiveSpecialtyIndex} replaces
+ * when this listener applies the change to it; both happen under one lock, so concurrent changes of the same
+ * developer each see the state the other left. A hard delete of a developer that was not active counts as
+ * removing a deleted one.
+ * <p>
+ * The reconcile query runs without the lock. Deltas applied meanwhile are recorded and replayed onto the
+ * reconciled counters before the swap, so a change committed after the query took its snapshot is not lost.
+ * One that commits just before the query starts but reaches its listener only after is counted twice, until
+ * the next reconcile.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeveloperStatistics {
+
+    private final DeveloperRepository developerRepository;
+    private final ActiveSpecialtyIndex activeSpecialtyIndex;
+    private final SpecialtyDictionary specialtyDictionary;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile Counters counters = new Counters();
+
+    /**
+     * Deltas applied while a reconcile is running, {@code null} otherwise. Guarded by {@code lock}.
+     */
+    private List<Delta> deltasDuringReconcile;
+
+    private record Delta(Status status, Short specialtyId, long delta) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${qadevs.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${qadevs.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        lock.lock();
+        try {
+            deltasDuringReconcile = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Counters reconciled = new Counters();
+            for (DeveloperCountView view : developerRepository.countByStatusAndSpecialty()) {
+                reconciled.count(view.getStatus(), specialtyDictionary.idOf(view.getSpecialty()), view.getCount());
+            }
+            lock.lock();
+            try {
+                deltasDuringReconcile.forEach(delta -> reconciled.count(delta.status(), delta.specialtyId(), delta.delta()));
+                counters = reconciled;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                deltasDuringReconcile = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeveloperChanged(DeveloperChangedEvent event) {
+        DeveloperEntity developer = event.getDeveloper();
+        // resolved before locking: the dictionary may have to ask the database
+        Short specialtyId = developer == null ? null : specialtyDictionary.idOf(developer.getSpecialty());
+        lock.lock();
+        try {
+            ActiveSpecialtyIndex.PreviousState previous = activeSpecialtyIndex.apply(event, specialtyId);
+            Status previousStatus = previous.active() ? Status.ACTIVE : Status.DELETED;
+            switch (event.getType()) {
+                case CREATED -> count(developer.getStatus(), specialtyId, 1);
+                case UPDATED -> {
+                    count(previousStatus, previous.specialtyId(), -1);
+                    count(developer.getStatus(), specialtyId, 1);
+                }
+                case SOFT_DELETED -> {
+                    if (previous.active()) {
+                        count(Status.ACTIVE, previous.specialtyId(), -1);
+                        count(Status.DELETED, null, 1);
+                    }
+                }
+                case HARD_DELETED -> count(previousStatus, previous.specialtyId(), -1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public DeveloperStatsDto snapshot() {
+        Counters current = counters;
+        Map<String, Long> activeBySpecialty = new TreeMap<>();
+        current.activeBySpecialty.forEach((specialtyId, count) -> {
+            if (count.get() > 0) {
+                activeBySpecialty.put(specialtyDictionary.nameOf(specialtyId), count.get());
+            }
+        });
+        return DeveloperStatsDto.builder()
+                .active(current.active.get())
+                .deleted(current.deleted.get())
+                .activeBySpecialty(activeBySpecialty)
+                .build();
+    }
+
+    private void count(Status status, Short specialtyId, long delta) {
+        counters.count(status, specialtyId, delta);
+        if (deltasDuringReconcile != null) {
+            deltasDuringReconcile.add(new Delta(status, specialtyId, delta));
+        }
+    }
+
+    private static class Counters {
+        private final AtomicLong active = new AtomicLong();
+        private final AtomicLong deleted = new AtomicLong();
+        private final Map<Short, AtomicLong> activeBySpecialty = new ConcurrentHashMap<>();
+
+        private void count(Status status, Short specialtyId, long delta) {
+            if (status == Status.ACTIVE) {
+                active.updateAndGet(count -> Math.max(0, count + delta));
+                if (specialtyId != null) {
+                    activeBySpecialty.computeIfAbsent(specialtyId, key -> new AtomicLong())
+                            .updateAndGet(count -> Math.max(0, count + delta));
+                }
+            } else {
+                deleted.updateAndGet(count -> Math.max(0, count + delta));
+            }
+        }
+    }
+}
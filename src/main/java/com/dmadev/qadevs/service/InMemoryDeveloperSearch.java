@@ -0,0 +1,200 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Search for H2, which has no trigram index: an in-memory prefix index from word to developer ids.
+ * Every query word has to be a prefix of some word of the developer; exact word matches rank first.
+ * Kept up to date like {@link ActiveSpecialtyIndex}: from events, plus a full rebuild on startup and
+ * periodically, replaying the changes that arrive while it runs. Reads are lock-free; writers are serialized.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${spring.datasource.url:}'.startsWith('jdbc:h2:')")
+public class InMemoryDeveloperSearch implements DeveloperSearch {
+
+    private final DeveloperRepository developerRepository;
+
+    private final Object rebuildLock = new Object();
+
+    private volatile NavigableMap<String, Set<Integer>> idsByWord = new ConcurrentSkipListMap<>();
+    private volatile Map<Integer, DeveloperDto> developersById = new ConcurrentHashMap<>();
+
+    /**
+     * Changes received while a rebuild is running, {@code null} otherwise. Guarded by {@code this}.
+     */
+    private List<DeveloperChangedEvent> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${qadevs.search.rebuild-interval:PT10M}",
+            initialDelayString = "${qadevs.search.rebuild-interval:PT10M}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changesDuringRebuild = new ArrayList<>();
+            }
+            try {
+                List<DeveloperDto> active = developerRepository.findAllByStatus(Status.ACTIVE);
+                NavigableMap<String, Set<Integer>> rebuiltIds = new ConcurrentSkipListMap<>();
+                Map<Integer, DeveloperDto> rebuiltDevelopers = new ConcurrentHashMap<>(active.size());
+                for (DeveloperDto developer : active) {
+                    index(rebuiltIds, developer);
+                    rebuiltDevelopers.put(developer.getId(), developer);
+                }
+                synchronized (this) {
+                    // the read may or may not have seen these; applying a change twice leaves the same state
+                    changesDuringRebuild.forEach(event -> apply(rebuiltIds, rebuiltDevelopers, event));
+                    idsByWord = rebuiltIds;
+                    developersById = rebuiltDevelopers;
+                }
+            } finally {
+                synchronized (this) {
+                    changesDuringRebuild = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onDeveloperChanged(DeveloperChangedEvent event) {
+        apply(idsByWord, developersById, event);
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(event);
+        }
+    }
+
+    public synchronized void put(DeveloperDto developer) {
+        put(idsByWord, developersById, developer);
+    }
+
+    public synchronized void remove(Integer id) {
+        remove(idsByWord, developersById, id);
+    }
+
+    @Override
+    public List<DeveloperDto> search(String query, int offset, int limit) {
+        List<String> queryWords = split(query);
+        if (queryWords.isEmpty()) {
+            return List.of();
+        }
+        Set<Integer> matches = null;
+        for (String queryWord : queryWords) {
+            Set<Integer> wordMatches = new HashSet<>();
+            // every indexed word that starts with the query word sorts between it and its last possible extension
+            idsByWord.subMap(queryWord, true, queryWord + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(wordMatches::addAll);
+            if (matches == null) {
+                matches = wordMatches;
+            } else {
+                matches.retainAll(wordMatches);
+            }
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+        }
+        // each candidate is tokenized once for its score, not once per comparison
+        return matches.stream()
+                .map(developersById::get)
+                .filter(Objects::nonNull)
+                .map(developer -> new Ranked(developer, exactMatches(developer, queryWords)))
+                .sorted(Comparator.comparingInt((Ranked ranked) -> -ranked.exactMatches())
+                        .thenComparing(ranked -> ranked.developer().getId()))
+                .limit(MAX_RESULTS)
+                .skip(offset)
+                .limit(limit)
+                .map(Ranked::developer)
+                .toList();
+    }
+
+    private record Ranked(DeveloperDto developer, int exactMatches) {
+    }
+
+    private static void apply(NavigableMap<String, Set<Integer>> idsByWord, Map<Integer, DeveloperDto> developersById,
+                              DeveloperChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                DeveloperEntity developer = event.getDeveloper();
+                if (developer.getStatus() == Status.ACTIVE) {
+                    put(idsByWord, developersById, DeveloperDto.fromEntity(developer));
+                } else {
+                    remove(idsByWord, developersById, developer.getId());
+                }
+            }
+            case SOFT_DELETED, HARD_DELETED -> remove(idsByWord, developersById, event.getId());
+        }
+    }
+
+    private static void put(NavigableMap<String, Set<Integer>> idsByWord, Map<Integer, DeveloperDto> developersById,
+                            DeveloperDto developer) {
+        remove(idsByWord, developersById, developer.getId());
+        index(idsByWord, developer);
+        developersById.put(developer.getId(), developer);
+    }
+
+    private static void remove(NavigableMap<String, Set<Integer>> idsByWord, Map<Integer, DeveloperDto> developersById,
+                               Integer id) {
+        DeveloperDto developer = developersById.remove(id);
+        if (developer == null) {
+            return;
+        }
+        for (String word : words(developer)) {
+            Set<Integer> ids = idsByWord.get(word);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    private static void index(NavigableMap<String, Set<Integer>> idsByWord, DeveloperDto developer) {
+        for (String word : words(developer)) {
+            idsByWord.computeIfAbsent(word, key -> ConcurrentHashMap.newKeySet()).add(developer.getId());
+        }
+    }
+
+    private static int exactMatches(DeveloperDto developer, List<String> queryWords) {
+        Set<String> words = words(developer);
+        return (int) queryWords.stream().filter(words::contains).count();
+    }
+
+    private static Set<String> words(DeveloperDto developer) {
+        Set<String> words = new HashSet<>();
+        for (String field : new String[]{developer.getFirstName(), developer.getLastName(), developer.getEmail(),
+                developer.getSpecialty()}) {
+            if (field != null) {
+                words.addAll(split(field));
+            }
+        }
+        return words;
+    }
+
+    private static List<String> split(String text) {
+        return Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,199 @@
+package com.dmadev.qadevs.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code specialties} dictionary, cached in full: developers store a specialty as its small integer id.
+ * Names match case-insensitively and keep the spelling they were first registered with.
+ * <p>
+ * Unknown names are registered by the service, in the transaction of the write that introduces them, so no
+ * second connection is needed. Such a registration is visible to its own transaction right away and enters the
+ * shared cache only once that transaction commits; it must not be rolled back to a savepoint taken before it.
+ * Names registered by other instances or the reactive application are picked up on the first miss; misses are
+ * remembered for {@link #MISSING_TTL}, so repeated lookups of a name nobody has stay off the database.
+ */
+@Component
+public class SpecialtyDictionary {
+
+    static final Duration MISSING_TTL = Duration.ofSeconds(5);
+    private static final int MAX_MISSING = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate savepoint;
+
+    private final Map<String, Short> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Short, String> namesById = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> missingKeys = Caffeine.newBuilder()
+            .expireAfterWrite(MISSING_TTL)
+            .maximumSize(MAX_MISSING)
+            .build();
+
+    public SpecialtyDictionary(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.savepoint = new TransactionTemplate(transactionManager);
+        this.savepoint.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("SELECT id, name FROM specialties", this::cache);
+    }
+
+    /**
+     * Id of the name, or {@code null} when it was never registered. Never writes, so it is safe to call while
+     * Hibernate binds parameters or flushes.
+     */
+    public Short idOf(String name) {
+        if (name == null) {
+            return null;
+        }
+        String key = keyOf(name);
+        Short id = idsByKey.get(key);
+        if (id != null) {
+            return id;
+        }
+        Registrations registrations = currentRegistrations();
+        if (registrations != null && registrations.idsByKey.containsKey(key)) {
+            return registrations.idsByKey.get(key);
+        }
+        if (missingKeys.getIfPresent(key) != null) {
+            return null;
+        }
+        jdbcTemplate.query("SELECT id, name FROM specialties WHERE name_key = ?", this::cache, key);
+        id = idsByKey.get(key);
+        if (id == null) {
+            missingKeys.put(key, Boolean.TRUE);
+        }
+        return id;
+    }
+
+    /**
+     * Id of the name, registering it first when it is new. Runs in the caller's transaction, if any; a
+     * concurrent registration of the same name is waited for and then used.
+     */
+    public Short register(String name) {
+        Short id = idOf(name);
+        if (id != null || name == null) {
+            return id;
+        }
+        String key = keyOf(name);
+        boolean inserted;
+        try {
+            savepoint.executeWithoutResult(status -> jdbcTemplate.update(
+                    "INSERT INTO specialties (name, name_key) VALUES (?, ?)", name.trim(), key));
+            inserted = true;
+        } catch (DuplicateKeyException exception) {
+            // registered concurrently; the row is committed and the lookup below finds it
+            inserted = false;
+        }
+        missingKeys.invalidate(key);
+        if (!inserted || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            id = idOf(name);
+        } else {
+            Registrations registrations = bindRegistrations();
+            jdbcTemplate.query("SELECT id, name FROM specialties WHERE name_key = ?", registrations::add, key);
+            id = registrations.idsByKey.get(key);
+        }
+        if (id == null) {
+            throw new IllegalStateException("Specialty %s could not be registered".formatted(name));
+        }
+        return id;
+    }
+
+    /**
+     * The registered spelling of the name, registering it first when it is new.
+     */
+    public String canonicalName(String name) {
+        Short id = register(name);
+        return id == null ? null : nameOf(id);
+    }
+
+    public String nameOf(Short id) {
+        if (id == null) {
+            return null;
+        }
+        String name = namesById.get(id);
+        if (name == null) {
+            Registrations registrations = currentRegistrations();
+            name = registrations == null ? null : registrations.namesById.get(id);
+        }
+        if (name == null) {
+            jdbcTemplate.query("SELECT id, name FROM specialties WHERE id = ?", this::cache, id);
+            name = namesById.get(id);
+        }
+        if (name == null) {
+            throw new IllegalStateException("Specialty with id: %d is not exist".formatted(id));
+        }
+        return name;
+    }
+
+    private void cache(ResultSet row) throws SQLException {
+        cache(row.getShort("id"), row.getString("name"));
+    }
+
+    private void cache(Short id, String name) {
+        namesById.put(id, name);
+        idsByKey.put(keyOf(name), id);
+    }
+
+    private Registrations currentRegistrations() {
+        return (Registrations) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private Registrations bindRegistrations() {
+        Registrations registrations = currentRegistrations();
+        if (registrations == null) {
+            registrations = new Registrations();
+            TransactionSynchronizationManager.bindResource(this, registrations);
+            TransactionSynchronizationManager.registerSynchronization(registrations);
+        }
+        return registrations;
+    }
+
+    private static String keyOf(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Names registered by the current transaction; they join the shared cache only if it commits.
+     */
+    private class Registrations implements TransactionSynchronization {
+
+        private final Map<String, Short> idsByKey = new HashMap<>();
+        private final Map<Short, String> namesById = new HashMap<>();
+
+        private void add(ResultSet row) throws SQLException {
+            Short id = row.getShort("id");
+            String name = row.getString("name");
+            namesById.put(id, name);
+            idsByKey.put(keyOf(name), id);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SpecialtyDictionary.this);
+            if (status == STATUS_COMMITTED) {
+                namesById.forEach(SpecialtyDictionary.this::cache);
+            }
+        }
+    }
+}
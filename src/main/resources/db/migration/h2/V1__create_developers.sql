@@ -0,0 +1,19 @@
+CREATE SEQUENCE developers_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE developers
+(
+    id         INTEGER      NOT NULL,
+    email      VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    specialty  VARCHAR(255),
+    status     VARCHAR(16)  NOT NULL,
+    CONSTRAINT pk_developers PRIMARY KEY (id),
+    CONSTRAINT uk_developers_email UNIQUE (email),
+    CONSTRAINT ck_developers_status CHECK (status IN ('ACTIVE', 'DELETED'))
+);
+
+-- H2 has neither expression nor partial indexes, so the PostgreSQL ones fall back to plain composites
+CREATE INDEX idx_developers_status_id ON developers (status, id);
+
+CREATE INDEX idx_developers_status_specialty ON developers (status, specialty, id);
@@ -0,0 +1,2 @@
+-- optimistic locking counter, exposed to clients as the ETag of a developer
+ALTER TABLE developers ADD COLUMN version INTEGER DEFAULT 0 NOT NULL;
@@ -0,0 +1,12 @@
+-- transactional outbox: written with the developer change, drained by the dispatcher in id order
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events
+(
+    id           BIGINT                      NOT NULL,
+    developer_id INTEGER                     NOT NULL,
+    type         VARCHAR(16)                 NOT NULL,
+    payload      VARCHAR(4000),
+    created_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
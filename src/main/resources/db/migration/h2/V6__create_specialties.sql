@@ -0,0 +1,29 @@
+-- specialty dictionary: developers reference a small integer id instead of repeating the name on every row.
+-- Names are unique case-insensitively and keep the spelling they were first written with.
+CREATE TABLE specialties
+(
+    id       SMALLINT GENERATED BY DEFAULT AS IDENTITY,
+    name     VARCHAR(255) NOT NULL,
+    name_key VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_specialties PRIMARY KEY (id),
+    CONSTRAINT uk_specialties_name_key UNIQUE (name_key)
+);
+
+INSERT INTO specialties (name, name_key)
+SELECT MIN(TRIM(specialty)), LOWER(TRIM(specialty))
+FROM developers
+WHERE specialty IS NOT NULL
+GROUP BY LOWER(TRIM(specialty));
+
+ALTER TABLE developers ADD COLUMN specialty_id SMALLINT;
+
+UPDATE developers
+SET specialty_id = (SELECT s.id FROM specialties s WHERE s.name_key = LOWER(TRIM(developers.specialty)));
+
+DROP INDEX idx_developers_status_specialty;
+ALTER TABLE developers DROP COLUMN specialty;
+
+ALTER TABLE developers
+    ADD CONSTRAINT fk_developers_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id);
+
+CREATE INDEX idx_developers_status_specialty ON developers (status, specialty_id, id);
@@ -0,0 +1,23 @@
+CREATE SEQUENCE developers_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE developers
+(
+    id         INTEGER      NOT NULL,
+    email      VARCHAR(255),
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    specialty  VARCHAR(255),
+    status     VARCHAR(16)  NOT NULL,
+    CONSTRAINT pk_developers PRIMARY KEY (id),
+    CONSTRAINT uk_developers_email UNIQUE (email),
+    CONSTRAINT ck_developers_status CHECK (status IN ('ACTIVE', 'DELETED'))
+);
+
+-- emails are written lower-cased; this also rejects mixed-case duplicates written around the service
+CREATE UNIQUE INDEX uk_developers_email_lower ON developers (lower(email));
+
+-- keyset pagination and status filters
+CREATE INDEX idx_developers_status_id ON developers (status, id);
+
+-- active developers by specialty; deleted rows are not part of the index at all
+CREATE INDEX idx_developers_active_specialty ON developers (specialty, id) WHERE status = 'ACTIVE';
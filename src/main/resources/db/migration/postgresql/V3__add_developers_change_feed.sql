@@ -0,0 +1,14 @@
+-- change feed: every write stamps the row, hard deletes leave a tombstone behind
+ALTER TABLE developers ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL;
+
+-- keyset reads of the feed in (updated_at, id) order
+CREATE INDEX idx_developers_updated_at_id ON developers (updated_at, id);
+
+CREATE TABLE developer_tombstones
+(
+    developer_id INTEGER                     NOT NULL,
+    deleted_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_developer_tombstones PRIMARY KEY (developer_id)
+);
+
+CREATE INDEX idx_developer_tombstones_deleted_at_id ON developer_tombstones (deleted_at, developer_id);
@@ -0,0 +1,10 @@
+-- type-ahead search: one lower-cased text per developer, trigram-indexed so LIKE '%term%' is an index scan
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE developers ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+    lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' ||
+          coalesce(email, '') || ' ' || coalesce(specialty, ''))
+    ) STORED;
+
+-- only active developers are searchable
+CREATE INDEX idx_developers_search_trgm ON developers USING gin (search_text gin_trgm_ops) WHERE status = 'ACTIVE';
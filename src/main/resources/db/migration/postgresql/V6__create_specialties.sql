@@ -0,0 +1,41 @@
+-- specialty dictionary: developers reference a small integer id instead of repeating the name on every row.
+-- Names are unique case-insensitively and keep the spelling they were first written with.
+CREATE TABLE specialties
+(
+    id       SMALLINT GENERATED BY DEFAULT AS IDENTITY,
+    name     VARCHAR(255) NOT NULL,
+    name_key VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_specialties PRIMARY KEY (id),
+    CONSTRAINT uk_specialties_name_key UNIQUE (name_key)
+);
+
+INSERT INTO specialties (name, name_key)
+SELECT min(trim(specialty)), lower(trim(specialty))
+FROM developers
+WHERE specialty IS NOT NULL
+GROUP BY lower(trim(specialty));
+
+ALTER TABLE developers ADD COLUMN specialty_id SMALLINT;
+
+UPDATE developers d
+SET specialty_id = s.id
+FROM specialties s
+WHERE s.name_key = lower(trim(d.specialty));
+
+-- the search text is generated from the specialty column, so it is rebuilt without it
+DROP INDEX idx_developers_search_trgm;
+ALTER TABLE developers DROP COLUMN search_text;
+DROP INDEX idx_developers_active_specialty;
+ALTER TABLE developers DROP COLUMN specialty;
+
+ALTER TABLE developers
+    ADD CONSTRAINT fk_developers_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id);
+
+-- active developers by specialty; deleted rows are not part of the index at all
+CREATE INDEX idx_developers_active_specialty ON developers (specialty_id, id) WHERE status = 'ACTIVE';
+
+ALTER TABLE developers ADD COLUMN search_text TEXT GENERATED ALWAYS AS (
+    lower(coalesce(first_name, '') || ' ' || coalesce(last_name, '') || ' ' || coalesce(email, ''))
+    ) STORED;
+
+CREATE INDEX idx_developers_search_trgm ON developers USING gin (search_text gin_trgm_ops) WHERE status = 'ACTIVE';
@@ -0,0 +1,2 @@
+-- keyset pages of the bench: only the few deleted rows are indexed, the large active set is not part of it
+CREATE INDEX idx_developers_deleted_id ON developers (id) WHERE status = 'DELETED';
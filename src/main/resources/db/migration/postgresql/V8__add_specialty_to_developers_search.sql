@@ -0,0 +1,30 @@
+-- V6 moved the specialty name into the specialties table, which a generated column cannot read, and rebuilt
+-- search_text without it. The column is kept by a trigger instead, so searches match specialties again.
+-- Specialty names never change once registered, so only writes to developers need to refresh it.
+DROP INDEX idx_developers_search_trgm;
+ALTER TABLE developers DROP COLUMN search_text;
+ALTER TABLE developers ADD COLUMN search_text TEXT;
+
+CREATE FUNCTION developers_search_text() RETURNS trigger AS
+$$
+BEGIN
+    NEW.search_text := lower(coalesce(NEW.first_name, '') || ' ' || coalesce(NEW.last_name, '') || ' ' ||
+                             coalesce(NEW.email, '') || ' ' ||
+                             coalesce((SELECT name FROM specialties WHERE id = NEW.specialty_id), ''));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_developers_search_text
+    BEFORE INSERT OR UPDATE OF first_name, last_name, email, specialty_id
+    ON developers
+    FOR EACH ROW
+EXECUTE FUNCTION developers_search_text();
+
+UPDATE developers d
+SET search_text = lower(coalesce(d.first_name, '') || ' ' || coalesce(d.last_name, '') || ' ' ||
+                        coalesce(d.email, '') || ' ' ||
+                        coalesce((SELECT s.name FROM specialties s WHERE s.id = d.specialty_id), ''));
+
+-- only active developers are searchable
+CREATE INDEX idx_developers_search_trgm ON developers USING gin (search_text gin_trgm_ops) WHERE status = 'ACTIVE';
@@ -1,34 +1,59 @@
 package com.dmadev.qadevs.controller;
 
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.dto.ChangeCursor;
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
 import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.dto.DeveloperStatsDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
 import com.dmadev.qadevs.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.exception.DeveloperVersionConflictException;
 import com.dmadev.qadevs.exception.DeveloperWithDuplicateEmailException;
+import com.dmadev.qadevs.service.BulkSaveResult;
+import com.dmadev.qadevs.service.DeveloperChangeFeed;
 import com.dmadev.qadevs.service.DeveloperService;
 import com.dmadev.qadevs.service.DeveloperServiceImpl;
+import com.dmadev.qadevs.service.DeveloperStatistics;
 import com.dmadev.qadevs.util.DataUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.BDDMockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
@@ -41,9 +66,27 @@ class DeveloperControllerV1Test {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private DeveloperService developerService;
 
+    @MockBean
+    private DeveloperChangeFeed developerChangeFeed;
+
+    @MockBean
+    private DeveloperStatistics developerStatistics;
+
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
 
     final private static int badRequestStatus = 400;
     final private static int notFoundRequestStatus = 404;
@@ -82,6 +125,7 @@ class DeveloperControllerV1Test {
         String message = "Developer with defined email is already exist";
         BDDMockito.given(developerService.saveDeveloper(any(DeveloperEntity.class)))
                 .willThrow(new DeveloperWithDuplicateEmailException(message));
+        double errorsBefore = createErrors();
 
         //when
         ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers)
@@ -95,9 +139,39 @@ class DeveloperControllerV1Test {
                 .andExpect(MockMvcResultMatchers.status().isBadRequest())
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(message)));
+        assertEquals(errorsBefore + 1, createErrors());
 
     }
 
+    @Test
+    @DisplayName("Test bulk create developers functionality")
+    public void givenDeveloperDtos_whenCreateDevelopers_thenCreatedAndRejectedRowsAreReturned() throws Exception {
+        //given
+        DeveloperDto johnDoeDto = DataUtils.getJohnDoeDtoTransient();
+        DeveloperDto mikeSmithDto = DataUtils.getMikeSmithDtoTransient();
+        String message = "Developer with defined email is already exists";
+        BulkSaveResult result = new BulkSaveResult();
+        result.getSaved().add(DataUtils.getJohnDoePersisted());
+        result.reject(1, message);
+        BDDMockito.given(developerService.saveDevelopers(any())).willReturn(result);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(johnDoeDto, mikeSmithDto)))
+        );
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.created[0].id", CoreMatchers.notNullValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].index", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].status", CoreMatchers.is(badRequestStatus)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", CoreMatchers.is(message)));
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperDto_whenUpdateDeveloper_thenSuccessResponse() throws Exception {
@@ -188,6 +262,499 @@ class DeveloperControllerV1Test {
 
     }
 
+    @Test
+    @DisplayName("Test patch developer functionality")
+    public void givenPartialDeveloperDto_whenPatchDeveloper_thenSuccessResponse() throws Exception {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        johnDoePersisted.setLastName("Patched");
+        BDDMockito.given(developerService.patchDeveloper(eq(johnDoePersisted.getId()), any(DeveloperEntity.class)))
+                .willReturn(johnDoePersisted);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/" + johnDoePersisted.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Patched\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lastName", CoreMatchers.is("Patched")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(johnDoePersisted.getFirstName())));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with incorrect id functionality")
+    public void givenIncorrectId_whenPatchDeveloper_thenErrorResponse() throws Exception {
+        //given
+        String message = "Developer with id: 1 is not exist";
+        BDDMockito.given(developerService.patchDeveloper(anyInt(), any(DeveloperEntity.class)))
+                .willThrow(new DeveloperNotFoundException(message));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Patched\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotFound())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(notFoundRequestStatus)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(message)));
+    }
+
+    @Test
+    @DisplayName("Test get developer by Id returns version as ETag functionality")
+    public void givenId_whenGetById_thenETagIsReturned() throws Exception {
+        //given
+        DeveloperEntity developer = DataUtils.getJohnDoePersisted();
+        developer.setVersion(7);
+        BDDMockito.given(developerService.getDeveloperById(anyInt())).willReturn(developer);
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"7\""));
+    }
+
+    @Test
+    @DisplayName("Test get developer by Id with matching If-None-Match functionality")
+    public void givenCurrentETag_whenGetById_thenNotModifiedResponse() throws Exception {
+        //given
+        DeveloperEntity developer = DataUtils.getJohnDoePersisted();
+        developer.setVersion(7);
+        BDDMockito.given(developerService.getDeveloperById(anyInt())).willReturn(developer);
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"7\""));
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with If-Match functionality")
+    public void givenIfMatch_whenPatchDeveloper_thenExpectedVersionIsPassedAndNewETagReturned() throws Exception {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        johnDoePersisted.setVersion(4);
+        BDDMockito.given(developerService.patchDeveloper(eq(johnDoePersisted.getId()), any(DeveloperEntity.class)))
+                .willReturn(johnDoePersisted);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/" + johnDoePersisted.getId())
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Patched\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""));
+        verify(developerService, times(1))
+                .patchDeveloper(eq(johnDoePersisted.getId()), argThat(changes -> Integer.valueOf(3).equals(changes.getVersion())));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with several If-Match tags functionality")
+    public void givenIfMatchListingCurrentVersion_whenPatchDeveloper_thenCurrentVersionIsExpected() throws Exception {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        johnDoePersisted.setVersion(4);
+        BDDMockito.given(developerService.getDeveloperById(johnDoePersisted.getId())).willReturn(johnDoePersisted);
+        BDDMockito.given(developerService.patchDeveloper(eq(johnDoePersisted.getId()), any(DeveloperEntity.class)))
+                .willReturn(johnDoePersisted);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/" + johnDoePersisted.getId())
+                .header(HttpHeaders.IF_MATCH, "\"3\", \"4\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Patched\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        verify(developerService, times(1))
+                .patchDeveloper(eq(johnDoePersisted.getId()), argThat(changes -> Integer.valueOf(4).equals(changes.getVersion())));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with If-Match * functionality")
+    public void givenIfMatchAnyAndMissingDeveloper_whenPatchDeveloper_thenPreconditionFailedResponse() throws Exception {
+        //given
+        BDDMockito.given(developerService.getDeveloperById(1))
+                .willThrow(new DeveloperNotFoundException("Developer with id: 1 is not exist"));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/1")
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\":\"Patched\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(412)));
+        verify(developerService, never()).patchDeveloper(anyInt(), any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with malformed If-Match functionality")
+    public void givenMalformedIfMatch_whenUpdateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoPersisted();
+
+        //when
+        ResultActions resultActions = mockMvc.perform(put(pathApiV1Developers)
+                .header(HttpHeaders.IF_MATCH, "\"3\", \"abc\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+        verify(developerService, never()).updateDeveloper(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer with stale If-Match functionality")
+    public void givenStaleIfMatch_whenUpdateDeveloper_thenPreconditionFailedResponse() throws Exception {
+        //given
+        DeveloperDto dto = DataUtils.getJohnDoeDtoPersisted();
+        String message = "Developer with id: 1 has version 4, expected 3";
+        BDDMockito.given(developerService.updateDeveloper(any(DeveloperEntity.class)))
+                .willThrow(new DeveloperVersionConflictException(message));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(put(pathApiV1Developers)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(412)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(message)));
+    }
+
+    @Test
+    @DisplayName("Test get developers page functionality")
+    public void givenLimit_whenGetDevelopersPage_thenPageWithNextCursorIsReturned() throws Exception {
+        //given
+        DeveloperDto johnDoePersisted = DataUtils.getJohnDoeDtoPersisted();
+        DeveloperDto mikeSmithPersisted = DataUtils.getMikeSmithDtoPersisted();
+        BDDMockito.given(developerService.getActiveDevelopersPage(null, 2))
+                .willReturn(List.of(johnDoePersisted, mikeSmithPersisted));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/page?limit=1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(johnDoePersisted.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", CoreMatchers.is(johnDoePersisted.getId())));
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenIds_whenBatchGet_thenDevelopersInRequestOrderAndMissingIdsAreReturned() throws Exception {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        DeveloperEntity mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
+        BDDMockito.given(developerService.getDevelopersByIds(List.of(2, 7, 1)))
+                .willReturn(Map.of(1, johnDoePersisted, 2, mikeSmithPersisted));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[2, 7, 1, 2]"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].id", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[1].id", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing[0]", CoreMatchers.is(7)));
+    }
+
+    @Test
+    @DisplayName("Test get developers by no ids functionality")
+    public void givenNoIds_whenBatchGet_thenErrorResponse() throws Exception {
+        //given
+
+        //when
+        ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+        verify(developerService, never()).getDevelopersByIds(any());
+    }
+
+    @Test
+    @DisplayName("Test get bench developers page functionality")
+    public void givenCursor_whenGetBenchDevelopersPage_thenDeletedPageIsReturned() throws Exception {
+        //given
+        DeveloperDto frankJonesPersisted = DataUtils.getFrankJonesDtoPersisted();
+        BDDMockito.given(developerService.getBenchDevelopersPage(1, 11))
+                .willReturn(List.of(frankJonesPersisted));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/bench")
+                .param("cursor", "1")
+                .param("limit", "10"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].status", CoreMatchers.is("DELETED")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get changes since cursor functionality")
+    public void givenCursor_whenGetChanges_thenChangesAndNextCursorAreReturned() throws Exception {
+        //given
+        ChangeCursor since = new ChangeCursor(Instant.parse("2024-07-01T10:00:00Z"), 1);
+        Instant changedAt = Instant.parse("2024-07-01T10:00:01.000002Z");
+        DeveloperChangeDto updated = new DeveloperChangeDto(2, changedAt, "Mike", "Smith",
+                "mike.smith@mail.com", "Java", Status.ACTIVE);
+        DeveloperChangeDto removed = new DeveloperChangeDto(3, changedAt);
+        DeveloperChangeDto beyondLimit = new DeveloperChangeDto(4, changedAt);
+        BDDMockito.given(developerChangeFeed.getChangesSince(since, 3))
+                .willReturn(List.of(updated, removed, beyondLimit));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/changes")
+                .param("since", since.toString())
+                .param("limit", "2"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].developer.firstName", CoreMatchers.is("Mike")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].removed", CoreMatchers.is(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor",
+                        CoreMatchers.is(ChangeCursor.of(removed).toString())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasMore", CoreMatchers.is(true)));
+    }
+
+    @Test
+    @DisplayName("Test get changes with malformed cursor functionality")
+    public void givenMalformedCursor_whenGetChanges_thenErrorResponse() throws Exception {
+        //given
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/changes")
+                .param("since", "yesterday"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+        verify(developerChangeFeed, never()).getChangesSince(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    public void givenQuery_whenSearchDevelopers_thenRankedPageAndNextOffsetAreReturned() throws Exception {
+        //given
+        DeveloperDto johnDoe = DataUtils.getJohnDoeDtoPersisted();
+        DeveloperDto mikeSmith = DataUtils.getMikeSmithDtoPersisted();
+        DeveloperDto frankJones = DataUtils.getFrankJonesDtoPersisted();
+        BDDMockito.given(developerService.searchDevelopers("mail", 2, 3))
+                .willReturn(List.of(johnDoe, mikeSmith, frankJones));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/search")
+                .param("q", "mail")
+                .param("offset", "2")
+                .param("limit", "2"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].firstName", CoreMatchers.is("John")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[1].firstName", CoreMatchers.is("Mike")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextOffset", CoreMatchers.is(4)));
+    }
+
+    @Test
+    @DisplayName("Test search developers with too short query functionality")
+    public void givenTooShortQuery_whenSearchDevelopers_thenErrorResponse() throws Exception {
+        //given
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/search")
+                .param("q", " j "));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+        verify(developerService, never()).searchDevelopers(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test search developers with overflowing page functionality")
+    public void givenOffsetAndLimitOverflowingInt_whenSearchDevelopers_thenErrorResponse() throws Exception {
+        //given
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/search")
+                .param("q", "mail")
+                .param("offset", String.valueOf(Integer.MAX_VALUE))
+                .param("limit", "1"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+        verify(developerService, never()).searchDevelopers(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Test get statistics functionality")
+    public void givenCounters_whenGetStatistics_thenTotalsArePerSpecialtyReturned() throws Exception {
+        //given
+        BDDMockito.given(developerStatistics.snapshot()).willReturn(DeveloperStatsDto.builder()
+                .active(3)
+                .deleted(1)
+                .activeBySpecialty(Map.of("java", 2L, "c#", 1L))
+                .build());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/stats"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.active", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.activeBySpecialty.java", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.activeBySpecialty['c#']", CoreMatchers.is(1)));
+        verify(developerService, never()).getAllDevelopers();
+    }
+
+    @Test
+    @DisplayName("Test get last developers page functionality")
+    public void givenCursorOfLastPage_whenGetDevelopersPage_thenNoNextCursorIsReturned() throws Exception {
+        //given
+        DeveloperDto mikeSmithPersisted = DataUtils.getMikeSmithDtoPersisted();
+        BDDMockito.given(developerService.getActiveDevelopersPage(1, 11))
+                .willReturn(List.of(mikeSmithPersisted));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/page?cursor=1&limit=10")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(mikeSmithPersisted.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test get developers page with incorrect limit functionality")
+    public void givenIncorrectLimit_whenGetDevelopersPage_thenErrorResponse() throws Exception {
+        //given
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/page?limit=0")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        verify(developerService, never()).getActiveDevelopersPage(any(), anyInt());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)));
+    }
+
+    @Test
+    @DisplayName("Test get developers by specialty page functionality")
+    public void givenSpecialty_whenGetDevelopersBySpecialtyPage_thenPageIsReturned() throws Exception {
+        //given
+        DeveloperDto johnDoePersisted = DataUtils.getJohnDoeDtoPersisted();
+        BDDMockito.given(developerService.getActiveBySpecialtyPage("java", null, 2))
+                .willReturn(List.of(johnDoePersisted));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/specialty/java/page?limit=1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(johnDoePersisted.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test export developers functionality")
+    public void givenActiveDevelopers_whenExportDevelopers_thenNdjsonIsStreamed() throws Exception {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        DeveloperEntity mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
+        BDDMockito.willAnswer(invocation -> {
+            Consumer<DeveloperEntity> consumer = invocation.getArgument(1);
+            consumer.accept(johnDoePersisted);
+            consumer.accept(mikeSmithPersisted);
+            return null;
+        }).given(developerService).exportDevelopers(eq(Status.ACTIVE), any());
+
+        //when
+        MvcResult mvcResult = mockMvc.perform(get(pathApiV1Developers + "/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        ResultActions resultActions = mockMvc.perform(asyncDispatch(mvcResult));
+
+        //then
+        String expected = objectMapper.writeValueAsString(DeveloperDto.fromEntity(johnDoePersisted)) + "\n"
+                + objectMapper.writeValueAsString(DeveloperDto.fromEntity(mikeSmithPersisted)) + "\n";
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(expected));
+    }
+
     @Test
     @DisplayName("Test soft delete developer by id functionality")
     public void givenId_whenSoftDelete_ThenSuccessResponse() throws Exception {
@@ -258,5 +825,68 @@ class DeveloperControllerV1Test {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message",CoreMatchers.is(errorMessage)));
     }
 
+    @Test
+    @DisplayName("Test bulk soft delete developers functionality")
+    public void givenIds_whenDeleteDevelopersById_thenDeletedCountIsReturned() throws Exception {
+        //given
+        BDDMockito.given(developerService.softDeleteAllById(List.of(1, 2, 3))).willReturn(2);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(delete(pathApiV1Developers + "?ids=1,2,3")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        verify(developerService, never()).hardDeleteAllById(any());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test bulk delete developers with repeated ids functionality")
+    public void givenRepeatedIds_whenDeleteDevelopersById_thenEachIdIsRequestedOnce() throws Exception {
+        //given
+        BDDMockito.given(developerService.softDeleteAllById(List.of(1, 2))).willReturn(2);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(delete(pathApiV1Developers + "?ids=1,2,1,2")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        verify(developerService, times(1)).softDeleteAllById(List.of(1, 2));
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test bulk hard delete developers functionality")
+    public void givenIdsAndIsHard_whenDeleteDevelopersById_thenHardDeleteIsUsed() throws Exception {
+        //given
+        BDDMockito.given(developerService.hardDeleteAllById(List.of(1, 2))).willReturn(2);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(delete(pathApiV1Developers + "?ids=1,2&isHard=true")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        verify(developerService, never()).softDeleteAllById(any());
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(2)));
+    }
+
+    private double createErrors() {
+        return meterRegistry.counter(MetricsConfig.DEVELOPER_ERRORS_COUNTER,
+                        "operation", "create",
+                        "exception", DeveloperWithDuplicateEmailException.class.getSimpleName())
+                .count();
+    }
+
     //eof
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.dmadev.qadevs.it;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.service.BulkSaveResult;
+import com.dmadev.qadevs.service.DeveloperService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the prod profile against a server that logs every statement it receives, to check what the
+ * driver really sends rather than what Hibernate hands to JDBC.
+ */
+@ActiveProfiles("prod")
+@Testcontainers
+@SpringBootTest
+public class ItBatchedInsertTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:latest")
+            .withUsername("dmadev")
+            .withPassword("password")
+            .withDatabaseName("qadevs_batching")
+            .withCommand("postgres", "-c", "log_statement=all");
+
+    @DynamicPropertySource
+    public static void dynamicPropertySource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRE_SQL_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRE_SQL_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRE_SQL_CONTAINER::getPassword);
+    }
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Test
+    @DisplayName("Test batched inserts are rewritten to multi-row statements functionality")
+    public void givenProdProfile_whenSaveDevelopersInBulk_thenServerReceivesMultiRowInserts() {
+        //given
+        List<DeveloperEntity> developers = IntStream.range(0, 100)
+                .mapToObj(i -> DeveloperEntity.builder()
+                        .firstName("Batch")
+                        .lastName("Developer" + i)
+                        .email("batch.developer" + i + "@gmail.com")
+                        .specialty("java")
+                        .status(Status.ACTIVE)
+                        .build())
+                .toList();
+
+        //when
+        BulkSaveResult result = developerService.saveDevelopers(developers);
+
+        //then
+        assertThat(result.getSaved()).hasSize(100);
+        List<String> developerInserts = POSTGRE_SQL_CONTAINER.getLogs().lines()
+                .filter(line -> line.contains("insert into developers"))
+                .toList();
+        assertThat(developerInserts).isNotEmpty();
+        assertThat(developerInserts).anyMatch(line -> line.contains("),("));
+        // 100 rows, batches of 50: far fewer statements than rows reach the server
+        assertThat(developerInserts.size()).isLessThan(20);
+    }
+}
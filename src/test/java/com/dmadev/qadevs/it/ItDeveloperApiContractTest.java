@@ -0,0 +1,27 @@
+package com.dmadev.qadevs.it;
+
+import com.dmadev.qadevs.contract.DeveloperApiContract;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+
+/**
+ * The shared HTTP contract of the developer API, run against this application; the reactive application runs
+ * the same cases.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ItDeveloperApiContractTest extends AbstractRestControllerBaseTest implements DeveloperApiContract {
+
+    @LocalServerPort
+    private int port;
+
+    @Override
+    public URI baseUri() {
+        return URI.create("http://localhost:" + port);
+    }
+}
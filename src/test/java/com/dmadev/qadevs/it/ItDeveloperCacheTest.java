@@ -0,0 +1,185 @@
+package com.dmadev.qadevs.it;
+
+import com.dmadev.qadevs.config.CacheConfig;
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.service.DeveloperService;
+import com.dmadev.qadevs.service.SpecialtyDictionary;
+import com.dmadev.qadevs.util.DataUtils;
+import com.dmadev.qadevs.util.QueryBudget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.cache.type=caffeine")
+public class ItDeveloperCacheTest extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private SpecialtyDictionary specialtyDictionary;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        DataUtils.SPECIALTIES.forEach(specialtyDictionary::register);
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    final private static String pathApiV1Developers = "/api/v1/developers";
+
+    @Test
+    @DisplayName("Test get developer by id is served from cache functionality")
+    public void givenDeveloperWasRead_whenRowIsRemovedBehindTheService_thenCachedDeveloperIsReturned() throws Exception {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        developerRepository.deleteById(developer.getId());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId())
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(developer.getId())));
+    }
+
+    @Test
+    @DisplayName("Test update developer evicts cached developer functionality")
+    public void givenCachedDeveloper_whenUpdateDeveloper_thenCacheEntryIsEvicted() throws Exception {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertThat(developersById().get(developer.getId())).isNotNull();
+        DeveloperDto update = DeveloperDto.fromEntity(developer);
+        update.setFirstName("Johnny");
+
+        //when
+        mockMvc.perform(put(pathApiV1Developers)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //then
+        assertThat(developersById().get(developer.getId())).isNull();
+        mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is("Johnny")));
+    }
+
+    @Test
+    @DisplayName("Test update developer evicts cached developer after commit functionality")
+    public void givenCachedDeveloper_whenUpdateDeveloperInTransaction_thenCacheEntryIsEvictedOnlyOnCommit() throws Exception {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        DeveloperEntity update = DataUtils.getJohnDoeTransient();
+        update.setId(developer.getId());
+        update.setFirstName("Johnny");
+
+        //when
+        Cache.ValueWrapper cachedBeforeCommit = new TransactionTemplate(transactionManager).execute(status -> {
+            developerService.updateDeveloper(update);
+            return developersById().get(developer.getId());
+        });
+
+        //then
+        assertThat(cachedBeforeCommit).isNotNull();
+        assertThat(developersById().get(developer.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("Test unknown developer id is negatively cached functionality")
+    public void givenUnknownId_whenGetById_thenMissIsCached() throws Exception {
+        //given
+        int unknownId = 555;
+
+        //when
+        mockMvc.perform(get(pathApiV1Developers + "/" + unknownId))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        //then
+        Cache.ValueWrapper cachedMiss = developersById().get(unknownId);
+        assertThat(cachedMiss).isNotNull();
+        assertThat(cachedMiss.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids uses cache functionality")
+    public void givenBatchWasRead_whenBatchGetAgain_thenNoQueryIsExecuted() throws Exception {
+        //given
+        DeveloperEntity developer = developerRepository.save(DataUtils.getJohnDoeTransient());
+        int unknownId = developer.getId() + 1000;
+        String ids = objectMapper.writeValueAsString(List.of(developer.getId(), unknownId));
+        mockMvc.perform(post(pathApiV1Developers + "/batch-get")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ids));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].id", CoreMatchers.is(developer.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing[0]", CoreMatchers.is(unknownId)));
+    }
+
+    private Cache developersById() {
+        return cacheManager.getCache(CacheConfig.DEVELOPERS_BY_ID);
+    }
+}
@@ -1,10 +1,14 @@
 package com.dmadev.qadevs.it;
 
+import com.dmadev.qadevs.dto.ChangeCursor;
 import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
 import com.dmadev.qadevs.entity.Status;
 import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.service.DeveloperStatistics;
+import com.dmadev.qadevs.service.SpecialtyDictionary;
 import com.dmadev.qadevs.util.DataUtils;
+import com.dmadev.qadevs.util.QueryBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -21,9 +26,14 @@ import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 
@@ -42,13 +52,22 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
     @Autowired
     private DeveloperRepository developerRepository;
 
+    @Autowired
+    private SpecialtyDictionary specialtyDictionary;
+
+    @Autowired
+    private DeveloperStatistics developerStatistics;
+
     @BeforeEach
     public void setUp() {
         developerRepository.deleteAll();
+        DataUtils.SPECIALTIES.forEach(specialtyDictionary::register);
     }
 
     final private static int badRequestStatus = 400;
     final private static int notFoundRequestStatus = 404;
+    // every write also inserts its outbox events (one batch), plus a pooled outbox sequence fetch once per 50 events
+    final private static int outboxStatements = 2;
     final private static String pathApiV1Developers = "/api/v1/developers";
 
 
@@ -68,6 +87,8 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
         resultActions
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                // sequence block fetch and insert
+                .andExpect(QueryBudget.statementsAtMost(3 + outboxStatements))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.notNullValue()))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(johnDoeDtoPersisted.getFirstName())))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.lastName", CoreMatchers.is(johnDoeDtoPersisted.getLastName())))
@@ -122,6 +143,8 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
         resultActions
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                // select of the managed row and an update of the changed columns
+                .andExpect(QueryBudget.statementsAtMost(2 + outboxStatements))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id",
                         CoreMatchers.notNullValue()))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.firstName",
@@ -134,6 +157,84 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
                         CoreMatchers.is(johnDoeDto.getStatus().toString())));
     }
 
+    @Test
+    @DisplayName("Test update developer without status functionality")
+    public void givenDeveloperDtoWithoutStatus_whenUpdateDeveloper_thenStatusIsKept() throws Exception {
+        //given
+        DeveloperEntity johnDoeEntity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperDto johnDoeDto = DataUtils.getJohnDoeDtoPersisted();
+        johnDoeDto.setId(johnDoeEntity.getId());
+        johnDoeDto.setLastName("Updated");
+        johnDoeDto.setStatus(null);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(put(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(johnDoeDto))
+        );
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.lastName", CoreMatchers.is("Updated")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(Status.ACTIVE.toString())));
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(johnDoeEntity.getId()).orElseThrow();
+        assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Test update developer with duplicate email functionality")
+    public void givenDeveloperDtoWithTakenEmail_whenUpdateDeveloper_thenErrorResponse() throws Exception {
+        //given
+        DeveloperEntity johnDoeEntity = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity mikeSmithEntity = developerRepository.save(DataUtils.getMikeSmithTransient());
+        DeveloperDto johnDoeDto = DataUtils.getJohnDoeDtoPersisted();
+        johnDoeDto.setId(johnDoeEntity.getId());
+        johnDoeDto.setEmail(mikeSmithEntity.getEmail());
+        String message = "Developer with defined email is already exists";
+
+        //when
+        ResultActions resultActions = mockMvc.perform(put(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(johnDoeDto))
+        );
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(message)));
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(johnDoeEntity.getId()).orElseThrow();
+        assertThat(obtainedDeveloper.getEmail()).isEqualTo(johnDoeEntity.getEmail());
+    }
+
+    @Test
+    @DisplayName("Test patch developer functionality")
+    public void givenPartialDeveloperDto_whenPatchDeveloper_thenOnlySuppliedFieldsChange() throws Exception {
+        //given
+        DeveloperEntity johnDoeEntity = DataUtils.getJohnDoeTransient();
+        developerRepository.save(johnDoeEntity);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/" + johnDoeEntity.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"specialty\":\"kotlin\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(2 + outboxStatements))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.specialty", CoreMatchers.is("kotlin")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.email", CoreMatchers.is(johnDoeEntity.getEmail())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(johnDoeEntity.getFirstName())));
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(johnDoeEntity.getId()).orElseThrow();
+        assertThat(obtainedDeveloper.getSpecialty()).isEqualTo("kotlin");
+        assertThat(obtainedDeveloper.getLastName()).isEqualTo(johnDoeEntity.getLastName());
+        assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.ACTIVE);
+    }
 
     @Test
     @DisplayName("Test update developer with incorrect id functionality")
@@ -171,11 +272,62 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
         resultActions
                 .andDo(MockMvcResultHandlers.print())
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(1))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id", CoreMatchers.is(developer.getId())))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.firstName", CoreMatchers.is(developer.getFirstName())));
 
     }
 
+    @Test
+    @DisplayName("Test get developer by Id with current ETag functionality")
+    public void givenCurrentETag_whenGetById_thenNotModifiedResponse() throws Exception {
+        //given
+        DeveloperEntity developer = DataUtils.getJohnDoeTransient();
+        developerRepository.save(developer);
+        String eTag = mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId()))
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/" + developer.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    @DisplayName("Test patch developer with stale If-Match functionality")
+    public void givenStaleIfMatch_whenPatchDeveloper_thenPreconditionFailedAndRowIsUnchanged() throws Exception {
+        //given
+        DeveloperEntity developer = DataUtils.getJohnDoeTransient();
+        developerRepository.save(developer);
+        mockMvc.perform(patch(pathApiV1Developers + "/" + developer.getId())
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"specialty\":\"kotlin\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(patch(pathApiV1Developers + "/" + developer.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"specialty\":\"scala\"}"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(412)));
+        DeveloperEntity obtainedDeveloper = developerRepository.findById(developer.getId()).orElseThrow();
+        assertThat(obtainedDeveloper.getSpecialty()).isEqualTo("kotlin");
+        assertThat(obtainedDeveloper.getVersion()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Test get developer by Id functionality")
     public void givenIncorrectId_whenGetById_thenErrorResponse() throws Exception {
@@ -195,6 +347,95 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
 
     }
 
+    @Test
+    @DisplayName("Test get all developers functionality")
+    public void givenDevelopers_whenGetAllDevelopers_thenOnlyActiveRowsAreRead() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        developerRepository.save(DataUtils.getMikeSmithTransient());
+        developerRepository.save(DataUtils.getFrankJonesTransient());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers)
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()", CoreMatchers.is(2)))
+                .andExpect(QueryBudget.statementsAtMost(1))
+                .andExpect(QueryBudget.rowsAtMost(2));
+    }
+
+    @Test
+    @DisplayName("Test get developers page functionality")
+    public void givenDevelopers_whenGetDevelopersPage_thenOneBoundedQueryIsExecuted() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        developerRepository.save(DataUtils.getMikeSmithTransient());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/page?limit=1")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(QueryBudget.statementsAtMost(1))
+                // the one look-ahead row that decides whether there is a next page
+                .andExpect(QueryBudget.rowsAtMost(2));
+    }
+
+    @Test
+    @DisplayName("Test get developers by ids functionality")
+    public void givenDevelopers_whenBatchGet_thenOneQueryResolvesAllIdsInRequestOrder() throws Exception {
+        //given
+        DeveloperEntity developerJohn = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerMike = developerRepository.save(DataUtils.getMikeSmithTransient());
+        int unknownId = developerMike.getId() + 1000;
+
+        //when
+        ResultActions resultActions = mockMvc.perform(post(pathApiV1Developers + "/batch-get")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(developerMike.getId(), unknownId, developerJohn.getId()))));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[0].id", CoreMatchers.is(developerMike.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.developers[1].id", CoreMatchers.is(developerJohn.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.missing[0]", CoreMatchers.is(unknownId)));
+    }
+
+    @Test
+    @DisplayName("Test get bench developers page functionality")
+    public void givenDevelopers_whenGetBenchDevelopersPage_thenOnlyDeletedRowsAreRead() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        developerRepository.save(DataUtils.getMikeSmithTransient());
+        DeveloperEntity developerFrank = developerRepository.save(DataUtils.getFrankJonesTransient());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/bench")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(developerFrank.getId())))
+                .andExpect(QueryBudget.statementsAtMost(1))
+                .andExpect(QueryBudget.rowsAtMost(1));
+    }
+
     @Test
     @DisplayName("Test soft delete developer by id functionality")
     public void givenId_whenSoftDelete_ThenSuccessResponse() throws Exception {
@@ -210,7 +451,8 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
         assertThat(obtainedDeveloper.getStatus()).isEqualTo(Status.DELETED);
         resultActions
                 .andDo(MockMvcResultHandlers.print())
-                .andExpect(MockMvcResultMatchers.status().isOk());
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(1 + outboxStatements));
     }
 
     @Test
@@ -270,5 +512,147 @@ public class ItDeveloperControllerV1Test extends AbstractRestControllerBaseTest
                 .andExpect(MockMvcResultMatchers.jsonPath("$.status", CoreMatchers.is(badRequestStatus)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", CoreMatchers.is(errorMessage)));
     }
+
+    @Test
+    @DisplayName("Test bulk soft delete developers functionality")
+    public void givenDevelopers_whenBulkSoftDelete_thenActiveOnesAreDeletedInOneStatement() throws Exception {
+        //given
+        DeveloperEntity developerJohn = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerMike = developerRepository.save(DataUtils.getMikeSmithTransient());
+        DeveloperEntity developerFrank = developerRepository.save(DataUtils.getFrankJonesTransient());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(delete(pathApiV1Developers + "?ids=%d,%d,%d"
+                .formatted(developerJohn.getId(), developerMike.getId(), developerFrank.getId())));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(1 + outboxStatements))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.requested", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(2)));
+        assertThat(developerRepository.findAllByStatus(Status.ACTIVE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test get changes since cursor functionality")
+    public void givenSoftAndHardDelete_whenGetChangesSinceCursor_thenOnlyLaterChangesAreReturned() throws Exception {
+        //given
+        String since = new ChangeCursor(Instant.now().truncatedTo(ChronoUnit.MICROS), 0).toString();
+        DeveloperEntity developerJohn = developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerMike = developerRepository.save(DataUtils.getMikeSmithTransient());
+        mockMvc.perform(delete(pathApiV1Developers + "/" + developerMike.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(delete(pathApiV1Developers + "/" + developerJohn.getId() + "?isHard=true"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/changes")
+                .param("since", since));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(2))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].id", CoreMatchers.is(developerMike.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[0].developer.status",
+                        CoreMatchers.is(Status.DELETED.toString())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].id", CoreMatchers.is(developerJohn.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes[1].removed", CoreMatchers.is(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasMore", CoreMatchers.is(false)));
+        String nextCursor = objectMapper.readTree(resultActions.andReturn().getResponse().getContentAsString())
+                .get("nextCursor").asText();
+        mockMvc.perform(get(pathApiV1Developers + "/changes").param("since", nextCursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.changes.length()", CoreMatchers.is(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextCursor", CoreMatchers.is(nextCursor)));
+    }
+
+    @Test
+    @DisplayName("Test search developers functionality")
+    public void givenDevelopers_whenSearchDevelopers_thenActiveMatchesOfEveryWordAreRanked() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerMike = developerRepository.save(DataUtils.getMikeSmithTransient());
+        developerRepository.save(DataUtils.getFrankJonesTransient());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/search")
+                .param("q", "smit MIKE"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(1))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(developerMike.getId())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.nextOffset").doesNotExist());
+        // deleted developers are not searchable
+        mockMvc.perform(get(pathApiV1Developers + "/search").param("q", "jones"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(0)));
+    }
+
+    @Test
+    @DisplayName("Test search developers by specialty functionality")
+    public void givenDevelopers_whenSearchDevelopersByNameAndSpecialty_thenSpecialtyIsMatched() throws Exception {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+        DeveloperEntity developerMike = developerRepository.save(DataUtils.getMikeSmithTransient());
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerFrank.setStatus(Status.ACTIVE);
+        developerRepository.save(developerFrank);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/search")
+                .param("q", "smith java"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].id", CoreMatchers.is(developerMike.getId())));
+        mockMvc.perform(get(pathApiV1Developers + "/search").param("q", "java"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content.length()", CoreMatchers.is(2)));
+    }
+
+    @Test
+    @DisplayName("Test get statistics functionality")
+    public void givenWrites_whenGetStatistics_thenCountersFollowWithoutQueries() throws Exception {
+        //given
+        // setUp empties the table behind the counters' back
+        developerStatistics.reconcile();
+        DeveloperDto johnDoe = DataUtils.getJohnDoeDtoTransient();
+        DeveloperDto mikeSmith = DataUtils.getMikeSmithDtoTransient();
+        johnDoe.setSpecialty("erlang");
+        mikeSmith.setSpecialty("Erlang");
+        mockMvc.perform(post(pathApiV1Developers)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(johnDoe)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        String mikeSmithCreated = mockMvc.perform(post(pathApiV1Developers)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(mikeSmith)))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Integer mikeSmithId = objectMapper.readValue(mikeSmithCreated, DeveloperDto.class).getId();
+        mockMvc.perform(delete(pathApiV1Developers + "/" + mikeSmithId))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get(pathApiV1Developers + "/stats"));
+
+        //then
+        resultActions
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(QueryBudget.statementsAtMost(0))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.active", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.activeBySpecialty.erlang", CoreMatchers.is(1)));
+    }
     //eof
 }
@@ -0,0 +1,69 @@
+package com.dmadev.qadevs.it;
+
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.service.SpecialtyDictionary;
+import com.dmadev.qadevs.util.DataUtils;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ItMetricsTest extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private SpecialtyDictionary specialtyDictionary;
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        DataUtils.SPECIALTIES.forEach(specialtyDictionary::register);
+    }
+
+    @Test
+    @DisplayName("Test service, repository, error, pool and hibernate metrics are scraped functionality")
+    public void givenServedRequests_whenScrapePrometheus_thenDeveloperMetricsArePresent() throws Exception {
+        //given
+        Integer id = developerRepository.save(DataUtils.getJohnDoeTransient()).getId();
+        mockMvc.perform(get("/api/v1/developers/" + id));
+        mockMvc.perform(get("/api/v1/developers/" + (id + 1)));
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/actuator/prometheus"));
+
+        //then
+        resultActions
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.allOf(
+                        CoreMatchers.containsString("qadevs_developer_service_seconds_bucket"),
+                        CoreMatchers.containsString("method=\"getDeveloperById\""),
+                        CoreMatchers.containsString("exception=\"DeveloperNotFoundException\""),
+                        CoreMatchers.containsString("qadevs_developer_errors_total"),
+                        CoreMatchers.containsString("operation=\"get-by-id\""),
+                        CoreMatchers.containsString("spring_data_repository_invocations_seconds_bucket"),
+                        CoreMatchers.containsString("hikaricp_connections_active"),
+                        CoreMatchers.containsString("qadevs_datasource_pool_saturation"),
+                        CoreMatchers.containsString("hibernate_query_executions_total"))));
+    }
+}
@@ -0,0 +1,270 @@
+package com.dmadev.qadevs.it;
+
+import com.dmadev.qadevs.config.MetricsConfig;
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
+import com.dmadev.qadevs.outbox.OutboxDispatcher;
+import com.dmadev.qadevs.outbox.OutboxSink;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.OutboxEventRepository;
+import com.dmadev.qadevs.service.BulkSaveResult;
+import com.dmadev.qadevs.service.DeveloperService;
+import com.dmadev.qadevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Testcontainers
+@SpringBootTest
+public class ItOutboxTest extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @SpyBean
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private DeveloperService developerService;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private OutboxSink outboxSink;
+
+    private final List<OutboxEventEntity> delivered = new ArrayList<>();
+
+    final private static String pathApiV1Developers = "/api/v1/developers";
+
+    @BeforeEach
+    public void setUp() {
+        developerRepository.deleteAll();
+        outboxEventRepository.deleteAllInBatch();
+        delivered.clear();
+    }
+
+    @Test
+    @DisplayName("Test outbox events are dispatched in order and removed functionality")
+    public void givenDeveloperLifecycle_whenDispatch_thenSinkReceivesEventsAndOutboxIsEmpty() throws Exception {
+        //given
+        BDDMockito.willAnswer(invocation -> delivered.addAll(invocation.getArgument(0)))
+                .given(outboxSink).send(anyList());
+        Integer id = createJohnDoe();
+        mockMvc.perform(patch(pathApiV1Developers + "/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"specialty\":\"kotlin\"}"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(delete(pathApiV1Developers + "/" + id + "?isHard=true"))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        double dispatchedBefore = meterRegistry.counter(MetricsConfig.OUTBOX_DISPATCHED_COUNTER).count();
+
+        //when
+        outboxDispatcher.dispatch();
+
+        //then
+        assertThat(delivered).extracting(OutboxEventEntity::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.HARD_DELETED);
+        assertThat(meterRegistry.counter(MetricsConfig.OUTBOX_DISPATCHED_COUNTER).count())
+                .isEqualTo(dispatchedBefore + 3);
+        assertThat(delivered).extracting(OutboxEventEntity::getDeveloperId).containsOnly(id);
+        assertThat(delivered.get(1).getPayload()).contains("\"specialty\":\"kotlin\"");
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test concurrent outbox claims skip locked events functionality")
+    public void givenBatchClaimedByOpenTransaction_whenClaimConcurrently_thenDisjointBatchIsClaimedWithoutWaiting() throws Exception {
+        //given
+        List<Long> eventIds = outboxEventRepository.saveAllAndFlush(IntStream.range(0, 4)
+                        .mapToObj(i -> OutboxEventEntity.builder()
+                                .developerId(i)
+                                .type(ChangeType.HARD_DELETED)
+                                .createdAt(Instant.now())
+                                .build())
+                        .toList())
+                .stream()
+                .map(OutboxEventEntity::getId)
+                .toList();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        try (ExecutorService claimers = Executors.newFixedThreadPool(2)) {
+            Future<List<Long>> first = claimers.submit(() -> transactionTemplate.execute(status -> {
+                List<Long> claimed = claimIds(2);
+                firstClaimed.countDown();
+                awaitQuietly(releaseFirst);
+                return claimed;
+            }));
+            assertThat(firstClaimed.await(10, TimeUnit.SECONDS)).isTrue();
+
+            //when
+            // would block until the first transaction ends if locked rows were not skipped
+            Future<List<Long>> second = claimers.submit(() -> transactionTemplate.execute(status -> claimIds(4)));
+            List<Long> secondBatch = second.get(10, TimeUnit.SECONDS);
+            releaseFirst.countDown();
+            List<Long> firstBatch = first.get(10, TimeUnit.SECONDS);
+
+            //then
+            assertThat(firstBatch).containsExactlyElementsOf(eventIds.subList(0, 2));
+            assertThat(secondBatch).containsExactlyElementsOf(eventIds.subList(2, 4));
+        } finally {
+            releaseFirst.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Test failed outbox dispatch is retried functionality")
+    public void givenFailingSink_whenDispatch_thenEventsStayInOutbox() throws Exception {
+        //given
+        createJohnDoe();
+        BDDMockito.willThrow(new IllegalStateException("broker unavailable")).given(outboxSink).send(anyList());
+
+        //when
+        assertThrows(IllegalStateException.class, () -> outboxDispatcher.dispatch());
+
+        //then
+        assertThat(outboxEventRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test rolled back write leaves no outbox event functionality")
+    public void givenDuplicateEmail_whenCreateDeveloper_thenNoOutboxEventIsWritten() throws Exception {
+        //given
+        createJohnDoe();
+        outboxEventRepository.deleteAllInBatch();
+
+        //when
+        mockMvc.perform(post(pathApiV1Developers)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getJohnDoeDtoTransient())))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        //then
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test bulk create keeps outbox events of earlier chunks when a later chunk races functionality")
+    public void givenEmailTakenConcurrentlyInSecondChunk_whenSaveDevelopers_thenEverySavedDeveloperHasOutboxEvent() {
+        //given
+        List<DeveloperEntity> developers = IntStream.range(0, 1002)
+                .mapToObj(i -> DeveloperEntity.builder()
+                        .firstName("Bulk")
+                        .lastName("Developer" + i)
+                        .email("bulk.developer" + i + "@gmail.com")
+                        .specialty("java")
+                        .status(Status.ACTIVE)
+                        .build())
+                .toList();
+        String racedEmail = developers.get(1001).getEmail();
+        TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicInteger probes = new AtomicInteger();
+        BDDMockito.willAnswer(invocation -> {
+            Object existing = invocation.callRealMethod();
+            // another request takes an email of the second chunk between its probe and its flush
+            if (probes.incrementAndGet() == 2) {
+                concurrentTransaction.executeWithoutResult(status -> developerRepository.saveAndFlush(
+                        DeveloperEntity.builder()
+                                .firstName("Concurrent")
+                                .lastName("Developer")
+                                .email(racedEmail)
+                                .specialty("java")
+                                .status(Status.ACTIVE)
+                                .build()));
+            }
+            return existing;
+        }).given(developerRepository).findExistingEmails(anyCollection());
+
+        //when
+        BulkSaveResult result = developerService.saveDevelopers(developers);
+
+        //then
+        assertThat(result.getRejected()).containsOnlyKeys(1001);
+        assertThat(result.getSaved()).hasSize(1001);
+        List<Integer> savedIds = result.getSaved().stream().map(DeveloperEntity::getId).toList();
+        assertThat(outboxEventRepository.findAll())
+                .filteredOn(event -> event.getType() == ChangeType.CREATED)
+                .extracting(OutboxEventEntity::getDeveloperId)
+                .containsExactlyInAnyOrderElementsOf(savedIds);
+    }
+
+    private List<Long> claimIds(int size) {
+        return outboxEventRepository.claimBatch(PageRequest.ofSize(size)).stream()
+                .map(OutboxEventEntity::getId)
+                .toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Integer createJohnDoe() throws Exception {
+        String response = mockMvc.perform(post(pathApiV1Developers)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(DataUtils.getJohnDoeDtoTransient())))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, DeveloperDto.class).getId();
+    }
+}
@@ -0,0 +1,68 @@
+package com.dmadev.qadevs.it;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The context only starts when Hibernate validates the migrated schema against the entity mappings
+ * ({@code ddl-auto: validate}); these checks cover what validation does not look at.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest
+public class ItSchemaMigrationTest extends AbstractRestControllerBaseTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.hibernate.ddl-auto}")
+    private String ddlAuto;
+
+    @Test
+    @DisplayName("Test schema is owned by migrations functionality")
+    public void givenApplicationStarted_whenInspectSchema_thenMigrationsAreAppliedAndValidated() {
+        //given
+
+        //when
+        int pendingMigrations = flyway.info().pending().length;
+
+        //then
+        assertThat(ddlAuto).isEqualTo("validate");
+        assertThat(pendingMigrations).isZero();
+        assertThat(flyway.info().current()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test performance indexes are created functionality")
+    public void givenApplicationStarted_whenListIndexes_thenPerformanceIndexesExist() {
+        //given
+
+        //when
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE tablename = 'developers'", String.class);
+
+        //then
+        assertThat(indexes).contains(
+                "uk_developers_email",
+                "uk_developers_email_lower",
+                "idx_developers_status_id",
+                "idx_developers_active_specialty",
+                "idx_developers_updated_at_id",
+                "idx_developers_search_trgm",
+                "idx_developers_deleted_id");
+    }
+}
@@ -0,0 +1,223 @@
+package com.dmadev.qadevs.load;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.it.AbstractRestControllerBaseTest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Base for load tests: drives the running server over real HTTP from virtual-thread clients, so the
+ * client side never is the bottleneck, and writes a JSON report per scenario to {@code build/load-reports}.
+ * Run with {@code ./gradlew loadTest}; sizes are tuned with {@code -Dqadevs.load.*} system properties.
+ * <p>
+ * By default the server is the one this test starts. {@code -Dqadevs.load.base-url=http://host:port} points the
+ * requests at any other deployment instead, e.g. the reactive application; data is then seeded through the API
+ * as well, with emails unique to the run, so the target database is never cleared.
+ */
+@Slf4j
+@Tag("load")
+public abstract class AbstractLoadTest extends AbstractRestControllerBaseTest {
+
+    protected static final int CONCURRENCY = Integer.getInteger("qadevs.load.concurrency", 200);
+    protected static final int REQUESTS_PER_WORKER = Integer.getInteger("qadevs.load.requests-per-worker", 50);
+    protected static final String BASE_URL = System.getProperty("qadevs.load.base-url");
+    private static final Path REPORTS_DIR = Path.of("build", "load-reports");
+    private static final String PATH_API_V1_DEVELOPERS = "/api/v1/developers";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    protected URI uri(String path) {
+        return URI.create((BASE_URL == null ? "http://localhost:" + port : BASE_URL) + path);
+    }
+
+    /**
+     * Creates {@code count} active developers through the API, {@link #CONCURRENCY} requests at a time, and
+     * returns them in creation order. Even specialties are java, odd ones c#.
+     */
+    protected List<DeveloperDto> seedDevelopers(String runId, int count) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        List<Future<DeveloperDto>> created = new ArrayList<>(count);
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                String body = objectMapper.writeValueAsString(DeveloperDto.builder()
+                        .firstName("Load")
+                        .lastName("Developer" + i)
+                        .email("seed-%s-%d@qadevs.dev".formatted(runId, i))
+                        .specialty(i % 2 == 0 ? "java" : "c#")
+                        .build());
+                created.add(senders.submit(() -> {
+                    inFlight.acquire();
+                    try {
+                        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri(PATH_API_V1_DEVELOPERS))
+                                        .header("Content-Type", "application/json")
+                                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                                        .build(),
+                                HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Seeding failed with status " + response.statusCode());
+                        }
+                        return objectMapper.readValue(response.body(), DeveloperDto.class);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+        }
+        List<DeveloperDto> seeded = new ArrayList<>(count);
+        for (Future<DeveloperDto> developer : created) {
+            seeded.add(developer.get());
+        }
+        return seeded;
+    }
+
+    /**
+     * Closed-loop run: {@code concurrency} workers each send {@code requestsPerWorker} requests back to back.
+     * The request factory receives the global sequence number of the request.
+     */
+    protected LoadReport runClosedLoop(String scenario, int concurrency, int requestsPerWorker,
+                                       IntFunction<HttpRequest> requests) throws IOException {
+        long[] latencies = new long[concurrency * requestsPerWorker];
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.submit(() -> {
+                    for (int i = 0; i < requestsPerWorker; i++) {
+                        int number = sequence.getAndIncrement();
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = httpClient.send(requests.apply(number),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException | InterruptedException exception) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[number] = System.nanoTime() - begin;
+                    }
+                });
+            }
+        }
+        LoadReport report = LoadReport.of(scenario, latencies, errors.get(), Duration.ofNanos(System.nanoTime() - started));
+        writeReport(report);
+        return report;
+    }
+
+    /**
+     * Open-loop run: requests are sent at a fixed {@code ratePerSecond} for {@code duration}, whether or not
+     * earlier ones have completed. Latency is measured from the scheduled send time, so a server that falls
+     * behind shows up in the percentiles instead of silently lowering the offered load. Returns the overall
+     * report first, followed by one report per operation.
+     */
+    protected List<LoadReport> runOpenLoop(String scenario, int ratePerSecond, Duration duration,
+                                           IntFunction<LoadRequest> requests) throws IOException {
+        int total = (int) (ratePerSecond * duration.toSeconds());
+        long intervalNanos = 1_000_000_000L / ratePerSecond;
+        long[] latencies = new long[total];
+        boolean[] failed = new boolean[total];
+        String[] operations = new String[total];
+        long started = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int number = 0; number < total; number++) {
+                long scheduled = started + number * intervalNanos;
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                LoadRequest request = requests.apply(number);
+                operations[number] = request.operation();
+                int index = number;
+                senders.submit(() -> {
+                    try {
+                        HttpResponse<String> response = httpClient.send(request.request(),
+                                HttpResponse.BodyHandlers.ofString());
+                        failed[index] = response.statusCode() >= 400;
+                        if (!failed[index]) {
+                            request.onSuccess().accept(response);
+                        }
+                    } catch (IOException | InterruptedException exception) {
+                        failed[index] = true;
+                    }
+                    latencies[index] = System.nanoTime() - scheduled;
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        Map<String, List<Integer>> indexesByOperation = new LinkedHashMap<>();
+        for (int index = 0; index < total; index++) {
+            indexesByOperation.computeIfAbsent(operations[index], operation -> new ArrayList<>()).add(index);
+        }
+        List<LoadReport> reports = new ArrayList<>();
+        reports.add(openLoopReport(scenario, ratePerSecond, latencies, failed, elapsed));
+        for (Map.Entry<String, List<Integer>> entry : indexesByOperation.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            long[] operationLatencies = new long[indexes.size()];
+            boolean[] operationFailed = new boolean[indexes.size()];
+            for (int i = 0; i < indexes.size(); i++) {
+                operationLatencies[i] = latencies[indexes.get(i)];
+                operationFailed[i] = failed[indexes.get(i)];
+            }
+            reports.add(openLoopReport(scenario + "-" + entry.getKey(), null, operationLatencies, operationFailed, elapsed));
+        }
+        for (LoadReport report : reports) {
+            writeReport(report);
+        }
+        return reports;
+    }
+
+    private static LoadReport openLoopReport(String scenario, Integer ratePerSecond, long[] latencies,
+                                             boolean[] failed, Duration elapsed) {
+        long errors = 0;
+        for (boolean requestFailed : failed) {
+            if (requestFailed) {
+                errors++;
+            }
+        }
+        return LoadReport.of(scenario, latencies, errors, elapsed).toBuilder()
+                .targetRatePerSecond(ratePerSecond)
+                .build();
+    }
+
+    protected void writeReport(LoadReport report) throws IOException {
+        Files.createDirectories(REPORTS_DIR);
+        Path reportFile = REPORTS_DIR.resolve(report.getScenario() + ".json");
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        log.info("Load scenario {}: p99 {} ms, {} errors, report written to {}",
+                report.getScenario(), report.getP99Millis(), report.getErrors(), reportFile);
+    }
+}
@@ -0,0 +1,84 @@
+package com.dmadev.qadevs.load;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The same GET and POST load against the platform-thread and the virtual-thread request model;
+ * compare the {@code platform-*} and {@code virtual-*} reports written by the two subclasses.
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class AbstractThreadModelLoadTest extends AbstractLoadTest {
+
+    private static final String PATH_API_V1_DEVELOPERS = "/api/v1/developers";
+    private static final int SEEDED_DEVELOPERS = 1000;
+
+    private List<Integer> ids;
+
+    protected abstract String threadModel();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ids = seedDevelopers(UUID.randomUUID().toString(), SEEDED_DEVELOPERS).stream()
+                .map(DeveloperDto::getId)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Load test get developer by id functionality")
+    public void givenSeededDevelopers_whenGetByIdUnderLoad_thenErrorRateStaysBelowOnePercent() throws Exception {
+        //when
+        LoadReport report = runClosedLoop(threadModel() + "-get-by-id", CONCURRENCY, REQUESTS_PER_WORKER,
+                number -> HttpRequest.newBuilder(uri(PATH_API_V1_DEVELOPERS + "/" + ids.get(number % ids.size())))
+                        .GET()
+                        .build());
+
+        //then
+        assertThat(report.getErrors()).isLessThanOrEqualTo(report.getRequests() / 100);
+    }
+
+    @Test
+    @DisplayName("Load test create developer functionality")
+    public void givenUniqueEmails_whenCreateUnderLoad_thenErrorRateStaysBelowOnePercent() throws Exception {
+        //given
+        String runId = UUID.randomUUID().toString();
+
+        //when
+        LoadReport report = runClosedLoop(threadModel() + "-create", CONCURRENCY, REQUESTS_PER_WORKER,
+                number -> HttpRequest.newBuilder(uri(PATH_API_V1_DEVELOPERS))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(developerJson(runId, number)))
+                        .build());
+
+        //then
+        assertThat(report.getErrors()).isLessThanOrEqualTo(report.getRequests() / 100);
+    }
+
+    private String developerJson(String runId, int number) {
+        try {
+            return objectMapper.writeValueAsString(DeveloperDto.builder()
+                    .firstName("Load")
+                    .lastName("Developer" + number)
+                    .email("load-%s-%d@qadevs.dev".formatted(runId, number))
+                    .specialty("java")
+                    .build());
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.dmadev.qadevs.load;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+@Getter
+@Builder(toBuilder = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LoadReport {
+    private final String scenario;
+    private final Integer targetRatePerSecond;
+    private final long requests;
+    private final long errors;
+    private final double throughputPerSecond;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public static LoadReport of(String scenario, long[] latenciesNanos, long errors, Duration elapsed) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        return LoadReport.builder()
+                .scenario(scenario)
+                .requests(sorted.length)
+                .errors(errors)
+                .throughputPerSecond(sorted.length / (elapsed.toNanos() / 1_000_000_000.0))
+                .p50Millis(percentile(sorted, 0.50))
+                .p95Millis(percentile(sorted, 0.95))
+                .p99Millis(percentile(sorted, 0.99))
+                .maxMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0)
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return "%s: %d requests, %d errors, %.1f req/s, p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, max %.2f ms"
+                .formatted(scenario, requests, errors, throughputPerSecond, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
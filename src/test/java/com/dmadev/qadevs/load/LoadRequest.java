@@ -0,0 +1,17 @@
+package com.dmadev.qadevs.load;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.function.Consumer;
+
+/**
+ * One request of a mixed workload: the operation name groups latencies in the report, and the
+ * callback sees every successful response (e.g. to remember the ids of created developers).
+ */
+public record LoadRequest(String operation, HttpRequest request, Consumer<HttpResponse<String>> onSuccess) {
+
+    public static LoadRequest of(String operation, HttpRequest request) {
+        return new LoadRequest(operation, request, response -> {
+        });
+    }
+}
@@ -0,0 +1,148 @@
+package com.dmadev.qadevs.load;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mixed read/write traffic at a fixed offered rate against a seeded table. Out of every 100 requests:
+ * 40 get-by-id, 15 list pages, 10 specialty lists, 15 creates, 10 updates, 5 soft and 5 hard deletes.
+ * Deletes only target developers created during the run: each one is soft-deleted at most once (a second
+ * soft delete would be a 400) and hard deletes take the soft-deleted ones first, so reads of seeded ids
+ * keep succeeding. The list pages are served by the servlet variant only, so against another
+ * {@code qadevs.load.base-url} they show up as errors of the {@code list-page} and {@code specialty} operations.
+ * Tune with {@code -Dqadevs.load.seed-size}, {@code -Dqadevs.load.target-rate} (requests per second)
+ * and {@code -Dqadevs.load.duration} (ISO-8601, e.g. {@code PT2M}).
+ */
+@ActiveProfiles("test")
+@Testcontainers
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MixedWorkloadLoadTest extends AbstractLoadTest {
+
+    private static final String PATH_API_V1_DEVELOPERS = "/api/v1/developers";
+    private static final int SEED_SIZE = Integer.getInteger("qadevs.load.seed-size", 10_000);
+    private static final int TARGET_RATE = Integer.getInteger("qadevs.load.target-rate", 500);
+    private static final Duration DURATION = Duration.parse(System.getProperty("qadevs.load.duration", "PT60S"));
+
+    private final Queue<Integer> createdIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> softDeletedIds = new ConcurrentLinkedQueue<>();
+
+    private List<DeveloperDto> seeded;
+    private String runId;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        runId = UUID.randomUUID().toString();
+        seeded = seedDevelopers(runId, SEED_SIZE);
+    }
+
+    @Test
+    @DisplayName("Load test mixed read/write workload functionality")
+    public void givenSeededDevelopers_whenMixedWorkloadAtTargetRate_thenRateIsSustainedWithFewErrors() throws Exception {
+        //when
+        List<LoadReport> reports = runOpenLoop("mixed", TARGET_RATE, DURATION, this::mixedRequest);
+
+        //then
+        LoadReport overall = reports.get(0);
+        assertThat(overall.getErrors()).isLessThanOrEqualTo(overall.getRequests() / 100);
+        assertThat(overall.getThroughputPerSecond()).isGreaterThanOrEqualTo(TARGET_RATE * 0.9);
+    }
+
+    private LoadRequest mixedRequest(int number) {
+        DeveloperDto developer = seeded.get(number % seeded.size());
+        int slot = number % 100;
+        if (slot < 40) {
+            return LoadRequest.of("get-by-id", get(PATH_API_V1_DEVELOPERS + "/" + developer.getId()));
+        }
+        if (slot < 55) {
+            return LoadRequest.of("list-page", get(PATH_API_V1_DEVELOPERS + "/page?cursor=" + developer.getId() + "&limit=50"));
+        }
+        if (slot < 65) {
+            return LoadRequest.of("specialty", get(PATH_API_V1_DEVELOPERS + "/specialty/" + developer.getSpecialty() + "/page"));
+        }
+        if (slot < 80) {
+            DeveloperDto dto = DeveloperDto.builder()
+                    .firstName("Load")
+                    .lastName("Developer" + number)
+                    .email("load-%s-%d@qadevs.dev".formatted(runId, number))
+                    .specialty("java")
+                    .build();
+            return new LoadRequest("create", HttpRequest.newBuilder(uri(PATH_API_V1_DEVELOPERS))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(json(dto)))
+                    .build(), this::rememberCreated);
+        }
+        if (slot < 90) {
+            DeveloperDto dto = DeveloperDto.builder()
+                    .id(developer.getId())
+                    .firstName(developer.getFirstName())
+                    .lastName(developer.getLastName())
+                    .email(developer.getEmail())
+                    .specialty(developer.getSpecialty())
+                    .status(Status.ACTIVE)
+                    .build();
+            return LoadRequest.of("update", HttpRequest.newBuilder(uri(PATH_API_V1_DEVELOPERS))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(json(dto)))
+                    .build());
+        }
+        if (slot < 95) {
+            Integer createdId = createdIds.poll();
+            if (createdId != null) {
+                return new LoadRequest("soft-delete", delete(PATH_API_V1_DEVELOPERS + "/" + createdId),
+                        response -> softDeletedIds.add(createdId));
+            }
+        } else {
+            Integer deletableId = softDeletedIds.poll();
+            if (deletableId == null) {
+                deletableId = createdIds.poll();
+            }
+            if (deletableId != null) {
+                return LoadRequest.of("hard-delete", delete(PATH_API_V1_DEVELOPERS + "/" + deletableId + "?isHard=true"));
+            }
+        }
+        // nothing created yet at the very start of the run
+        return LoadRequest.of("get-by-id", get(PATH_API_V1_DEVELOPERS + "/" + developer.getId()));
+    }
+
+    private void rememberCreated(HttpResponse<String> response) {
+        try {
+            createdIds.add(objectMapper.readValue(response.body(), DeveloperDto.class).getId());
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest delete(String path) {
+        return HttpRequest.newBuilder(uri(path)).DELETE().build();
+    }
+
+    private String json(DeveloperDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
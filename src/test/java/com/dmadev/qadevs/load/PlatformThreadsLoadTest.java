@@ -0,0 +1,9 @@
+package com.dmadev.qadevs.load;
+
+class PlatformThreadsLoadTest extends AbstractThreadModelLoadTest {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
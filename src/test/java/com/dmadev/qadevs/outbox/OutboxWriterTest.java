@@ -0,0 +1,68 @@
+package com.dmadev.qadevs.outbox;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.OutboxEventEntity;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
+import com.dmadev.qadevs.repository.OutboxEventRepository;
+import com.dmadev.qadevs.util.DataUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxWriterTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private OutboxWriter writerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        writerUnderTest = new OutboxWriter(outboxEventRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Test outbox event for developer update functionality")
+    public void givenUpdatedEvent_whenOnDeveloperChanged_thenEventWithPayloadIsStored() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoePersisted();
+        ArgumentCaptor<OutboxEventEntity> stored = ArgumentCaptor.forClass(OutboxEventEntity.class);
+
+        //when
+        writerUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.UPDATED, johnDoe.getId(), johnDoe));
+
+        //then
+        verify(outboxEventRepository, times(1)).save(stored.capture());
+        assertThat(stored.getValue().getId()).isNull();
+        assertThat(stored.getValue().getDeveloperId()).isEqualTo(johnDoe.getId());
+        assertThat(stored.getValue().getType()).isEqualTo(ChangeType.UPDATED);
+        assertThat(stored.getValue().getPayload()).contains("\"email\":\"john.doe@gmail.com\"");
+        assertThat(stored.getValue().getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Test outbox event for hard delete functionality")
+    public void givenHardDeletedEvent_whenOnDeveloperChanged_thenEventWithoutPayloadIsStored() {
+        //given
+        ArgumentCaptor<OutboxEventEntity> stored = ArgumentCaptor.forClass(OutboxEventEntity.class);
+
+        //when
+        writerUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.HARD_DELETED, 7, null));
+
+        //then
+        verify(outboxEventRepository, times(1)).save(stored.capture());
+        assertThat(stored.getValue().getDeveloperId()).isEqualTo(7);
+        assertThat(stored.getValue().getType()).isEqualTo(ChangeType.HARD_DELETED);
+        assertThat(stored.getValue().getPayload()).isNull();
+    }
+}
@@ -1,31 +1,48 @@
 package com.dmadev.qadevs.repository;
 
+import com.dmadev.qadevs.dto.DeveloperChangeDto;
+import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
 import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.service.SpecialtyDictionary;
 import com.dmadev.qadevs.util.DataUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
+@Import(SpecialtyDictionary.class)
 public class DeveloperRepositoryTests {
 
     @Autowired
     private DeveloperRepository developerRepository;
 
+    @Autowired
+    private SpecialtyDictionary specialtyDictionary;
+
+    @Autowired
+    private DeveloperTombstoneRepository developerTombstoneRepository;
+
     @BeforeEach
     public void setUp() {
         developerRepository.deleteAll();
+        DataUtils.SPECIALTIES.forEach(specialtyDictionary::register);
     }
 
     @Test
@@ -41,6 +58,18 @@ public class DeveloperRepositoryTests {
 
     }
 
+    @Test
+    @DisplayName("Test save developer with duplicate email functionality")
+    public void givenDeveloperWithStoredEmail_whenSaveAndFlush_thenUniqueConstraintIsViolated() {
+        //given
+        developerRepository.saveAndFlush(DataUtils.getJohnDoeTransient());
+        DeveloperEntity duplicate = DataUtils.getMikeSmithTransient();
+        duplicate.setEmail(DataUtils.getJohnDoeTransient().getEmail());
+        //when
+        //then
+        assertThrows(DataIntegrityViolationException.class, () -> developerRepository.saveAndFlush(duplicate));
+    }
+
     @Test
     @DisplayName("Test update developer functionality")
     public void givenDeveloperToUpdate_whenSave_thenEmailIsChanged() {
@@ -100,6 +129,24 @@ public class DeveloperRepositoryTests {
         assertThat(CollectionUtils.isEmpty(obtainedDevelopers)).isFalse();
     }
 
+    @Test
+    @DisplayName("Test get all developers by status functionality")
+    public void givenThreeDevelopersAndTwoAreActive_whenFindAllByStatus_thenOnlyActiveAreReturned() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAll(List.of(developerFrank, developerMike, developerJohn));
+
+        //when
+        List<DeveloperDto> obtainedDevelopers = developerRepository.findAllByStatus(Status.ACTIVE);
+
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperDto::getId)
+                .containsExactlyInAnyOrder(developerJohn.getId(), developerMike.getId());
+        assertThat(obtainedDevelopers).extracting(DeveloperDto::getStatus).containsOnly(Status.ACTIVE);
+    }
+
     @Test
     @DisplayName("Test get developer by email functionality")
     public void givenDeveloperSaved_whenGetByEmail_thenDeveloperIsReturned() {
@@ -113,6 +160,22 @@ public class DeveloperRepositoryTests {
         assertThat(obtainedDeveloperByEmail.get().getEmail()).isEqualTo(frankJonesTransient.getEmail());
     }
 
+    @Test
+    @DisplayName("Test find existing emails functionality")
+    public void givenTwoDevelopersStored_whenFindExistingEmails_thenOnlyStoredEmailsAreReturned() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAll(List.of(developerJohn, developerMike));
+
+        //when
+        List<String> existingEmails = developerRepository.findExistingEmails(
+                List.of(developerJohn.getEmail(), "unknown@gmail.com"));
+
+        //then
+        assertThat(existingEmails).containsExactly(developerJohn.getEmail());
+    }
+
     @Test
     @DisplayName("Test get  all active developers by speciality functionality")
     public void givenThreeDevelopersAndTwoAreActive_whenFindAllActiveBySpecialty_thenReturnOnlyTwoDevelopers() {
@@ -123,13 +186,104 @@ public class DeveloperRepositoryTests {
         developerRepository.saveAll(List.of(developerFrank, developerMike, developerJohn));
 
         //when
-        List<DeveloperEntity> obtainedDevelopers = developerRepository.findAllActiveBySpecialty("java");
+        List<DeveloperDto> obtainedDevelopers = developerRepository.findAllActiveBySpecialty("java");
 
         //then
         assertThat(CollectionUtils.isEmpty(obtainedDevelopers)).isFalse(); //not empty
         assertThat(obtainedDevelopers.size()).isEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Test specialties differing in case share one dictionary entry functionality")
+    public void givenSpecialtiesDifferingInCase_whenFindAllActiveBySpecialty_thenAllAreMatchedWithOneSpelling() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        developerMike.setSpecialty(" JAVA ");
+        developerRepository.saveAll(List.of(developerJohn, developerMike));
+
+        //when
+        List<DeveloperDto> obtainedDevelopers = developerRepository.findAllActiveBySpecialty("Java");
+
+        //then
+        assertThat(obtainedDevelopers).hasSize(2);
+        assertThat(obtainedDevelopers).extracting(DeveloperDto::getSpecialty).containsOnly("java");
+    }
+
+    @Test
+    @DisplayName("Test find all active by unregistered specialty functionality")
+    public void givenUnregisteredSpecialty_whenFindAllActiveBySpecialty_thenNothingIsReturnedOrRegistered() {
+        //given
+        developerRepository.save(DataUtils.getJohnDoeTransient());
+
+        //when
+        List<DeveloperDto> obtainedDevelopers = developerRepository.findAllActiveBySpecialty("cobol");
+
+        //then
+        assertThat(obtainedDevelopers).isEmpty();
+        assertThat(specialtyDictionary.idOf("cobol")).isNull();
+    }
+
+    @Test
+    @DisplayName("Test find active specialties functionality")
+    public void givenThreeDevelopersAndTwoAreActive_whenFindActiveSpecialties_thenOnlyActiveAreReturned() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAll(List.of(developerFrank, developerMike, developerJohn));
+
+        //when
+        List<DeveloperSpecialtyView> activeSpecialties = developerRepository.findActiveSpecialties();
+
+        //then
+        assertThat(activeSpecialties.size()).isEqualTo(2);
+        assertThat(activeSpecialties).extracting(DeveloperSpecialtyView::getSpecialty).containsOnly("java");
+    }
+
+    @Test
+    @DisplayName("Test get active developers page functionality")
+    public void givenThreeDevelopersAndTwoAreActive_whenFindPageByStatus_thenPageIsOrderedAndBounded() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAll(List.of(developerFrank, developerMike, developerJohn));
+
+        //when
+        List<DeveloperDto> firstPage = developerRepository.findPageByStatus(Status.ACTIVE, 0, PageRequest.ofSize(1));
+        List<DeveloperDto> secondPage = developerRepository.findPageByStatus(Status.ACTIVE,
+                firstPage.get(0).getId(), PageRequest.ofSize(1));
+        List<DeveloperDto> lastPage = developerRepository.findPageByStatus(Status.ACTIVE,
+                secondPage.get(0).getId(), PageRequest.ofSize(1));
+
+        //then
+        assertThat(firstPage.size()).isEqualTo(1);
+        assertThat(secondPage.size()).isEqualTo(1);
+        assertThat(firstPage.get(0).getId()).isLessThan(secondPage.get(0).getId());
+        assertThat(secondPage.get(0).getStatus()).isEqualTo(Status.ACTIVE);
+        assertThat(CollectionUtils.isEmpty(lastPage)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test find active developers by ids as DTOs functionality")
+    public void givenThreeDevelopers_whenFindActiveDtosById_thenRequestedActiveRowsAreReturnedInIdOrder() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAll(List.of(developerFrank, developerMike, developerJohn));
+
+        //when
+        List<DeveloperDto> obtainedDevelopers = developerRepository.findActiveDtosById(
+                List.of(developerJohn.getId(), developerFrank.getId(), developerMike.getId()));
+
+        //then
+        assertThat(obtainedDevelopers).extracting(DeveloperDto::getId)
+                .containsExactly(developerMike.getId(), developerJohn.getId());
+        assertThat(obtainedDevelopers.get(1).getEmail()).isEqualTo(developerJohn.getEmail());
+    }
+
     @Test
     @DisplayName("Test delete developer by id functionality")
     public void givenDeveloperIsSaved_whenDeleteById_ThenDeveloperIsRemoveFromDB() {
@@ -151,5 +305,92 @@ public class DeveloperRepositoryTests {
 
     }
 
+    @Test
+    @DisplayName("Test soft delete by id only matches active developers functionality")
+    public void givenActiveAndDeletedDevelopers_whenSoftDeleteById_thenOnlyActiveRowIsCounted() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAllAndFlush(List.of(developerJohn, developerFrank));
+
+        //when
+        int softDeletedJohn = developerRepository.softDeleteById(developerJohn.getId(), Instant.now());
+        int softDeletedFrank = developerRepository.softDeleteById(developerFrank.getId(), Instant.now());
+
+        //then
+        assertThat(softDeletedJohn).isEqualTo(1);
+        assertThat(softDeletedFrank).isZero();
+        assertThat(developerRepository.findAllByStatus(Status.ACTIVE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test bulk soft and hard delete by ids functionality")
+    public void givenThreeDevelopers_whenDeleteByIdIn_thenAffectedRowsAreCounted() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAllAndFlush(List.of(developerJohn, developerMike, developerFrank));
+        List<Integer> ids = List.of(developerJohn.getId(), developerMike.getId(), developerFrank.getId());
+
+        //when
+        int softDeleted = developerRepository.softDeleteByIdIn(ids, Instant.now());
+        int hardDeleted = developerRepository.hardDeleteByIdIn(List.of(developerJohn.getId(), 999_999));
+
+        //then
+        assertThat(softDeleted).isEqualTo(2);
+        assertThat(hardDeleted).isEqualTo(1);
+        assertThat(developerRepository.findAllByStatus(Status.DELETED)).extracting(DeveloperDto::getId)
+                .containsExactlyInAnyOrder(developerMike.getId(), developerFrank.getId());
+    }
+
+    @Test
+    @DisplayName("Test lock ids by ids functionality")
+    public void givenActiveAndDeletedDevelopers_whenLockIdsByIdIn_thenOnlyMatchingIdsAreReturnedOnce() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerFrank = DataUtils.getFrankJonesTransient();
+        developerRepository.saveAllAndFlush(List.of(developerJohn, developerFrank));
+        List<Integer> ids = List.of(developerJohn.getId(), developerFrank.getId(), developerJohn.getId(), 999_999);
+
+        //when
+        List<Integer> activeIds = developerRepository.lockActiveIdsByIdIn(ids);
+        List<Integer> existingIds = developerRepository.lockIdsByIdIn(ids);
+
+        //then
+        assertThat(activeIds).containsExactly(developerJohn.getId());
+        assertThat(existingIds).containsExactlyInAnyOrder(developerJohn.getId(), developerFrank.getId());
+    }
+
+    @Test
+    @DisplayName("Test change feed reads changed rows and tombstones after cursor functionality")
+    public void givenChangesAndHardDelete_whenFindChangesAfter_thenOnlyLaterChangesAreReturnedInOrder() {
+        //given
+        DeveloperEntity developerJohn = DataUtils.getJohnDoeTransient();
+        DeveloperEntity developerMike = DataUtils.getMikeSmithTransient();
+        developerRepository.saveAllAndFlush(List.of(developerJohn, developerMike));
+        Instant deletedAt = Instant.now().plus(1, ChronoUnit.SECONDS).truncatedTo(ChronoUnit.MICROS);
+        Instant softDeletedAt = deletedAt.plus(1, ChronoUnit.SECONDS);
+        developerTombstoneRepository.insertForExisting(List.of(developerJohn.getId(), 999_999), deletedAt);
+        developerRepository.hardDeleteById(developerJohn.getId());
+        developerRepository.softDeleteById(developerMike.getId(), softDeletedAt);
+        Instant until = softDeletedAt.plus(1, ChronoUnit.SECONDS);
+        PageRequest page = PageRequest.ofSize(10);
+
+        //when
+        List<DeveloperChangeDto> changedRows = developerRepository.findChangesAfter(
+                deletedAt, 0, until, page);
+        List<DeveloperChangeDto> tombstones = developerTombstoneRepository.findChangesAfter(
+                Instant.EPOCH, 0, until, page);
+
+        //then
+        assertThat(changedRows).hasSize(1);
+        assertThat(changedRows.get(0).getId()).isEqualTo(developerMike.getId());
+        assertThat(changedRows.get(0).getChangedAt()).isEqualTo(softDeletedAt);
+        assertThat(changedRows.get(0).getDeveloper().getStatus()).isEqualTo(Status.DELETED);
+        assertThat(tombstones).extracting(DeveloperChangeDto::getId).containsExactly(developerJohn.getId());
+        assertThat(tombstones.get(0).isRemoved()).isTrue();
+    }
+
     //eof
 }
@@ -0,0 +1,122 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperSpecialtyView;
+import com.dmadev.qadevs.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveSpecialtyIndexTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private SpecialtyDictionary specialtyDictionary;
+    @InjectMocks
+    private ActiveSpecialtyIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.lenient().when(specialtyDictionary.idOf("java")).thenReturn((short) 1);
+        Mockito.lenient().when(specialtyDictionary.idOf("c#")).thenReturn((short) 2);
+    }
+
+    @Test
+    @DisplayName("Test rebuild specialty index functionality")
+    public void givenActiveDevelopersInDatabase_whenRebuild_thenIdsArePagedBySpecialty() {
+        //given
+        BDDMockito.given(developerRepository.findActiveSpecialties())
+                .willReturn(List.of(view(3, "java"), view(1, "java"), view(2, "c#"), view(5, "java")));
+
+        //when
+        indexUnderTest.rebuild();
+
+        //then
+        assertThat(indexUnderTest.page("java", null, 2)).containsExactly(1, 3);
+        assertThat(indexUnderTest.page("java", 3, 2)).containsExactly(5);
+        assertThat(indexUnderTest.page("c#", null, 10)).containsExactly(2);
+        assertThat(indexUnderTest.page("go", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test specialty index follows developer changes functionality")
+    public void givenDeveloperChanges_whenApplied_thenIndexIsUpdatedAndPreviousStateIsReturned() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoePersisted();
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithPersisted();
+
+        //when
+        ActiveSpecialtyIndex.PreviousState created =
+                indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.CREATED, johnDoe.getId(), johnDoe), (short) 1);
+        indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.CREATED, mikeSmith.getId(), mikeSmith), (short) 1);
+        mikeSmith.setSpecialty("c#");
+        ActiveSpecialtyIndex.PreviousState updated =
+                indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.UPDATED, mikeSmith.getId(), mikeSmith), (short) 2);
+        johnDoe.setStatus(Status.DELETED);
+        indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, johnDoe.getId(), johnDoe), null);
+
+        //then
+        assertThat(created).isEqualTo(new ActiveSpecialtyIndex.PreviousState(false, null));
+        assertThat(updated).isEqualTo(new ActiveSpecialtyIndex.PreviousState(true, (short) 1));
+        assertThat(indexUnderTest.page("java", null, 10)).isEmpty();
+        assertThat(indexUnderTest.page("c#", null, 10)).containsExactly(mikeSmith.getId());
+
+        //when
+        ActiveSpecialtyIndex.PreviousState hardDeleted =
+                indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.HARD_DELETED, mikeSmith.getId(), null), null);
+
+        //then
+        assertThat(hardDeleted).isEqualTo(new ActiveSpecialtyIndex.PreviousState(true, (short) 2));
+        assertThat(indexUnderTest.page("c#", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test specialty index keeps changes made during rebuild functionality")
+    public void givenChangesDuringRebuild_whenRebuild_thenRebuiltIndexHasThem() {
+        //given
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithPersisted();
+        BDDMockito.given(developerRepository.findActiveSpecialties()).willAnswer(invocation -> {
+            // committed after the read took its snapshot
+            indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.CREATED, mikeSmith.getId(), mikeSmith), (short) 1);
+            indexUnderTest.apply(new DeveloperChangedEvent(ChangeType.HARD_DELETED, 3, null), null);
+            return List.of(view(1, "java"), view(3, "c#"));
+        });
+
+        //when
+        indexUnderTest.rebuild();
+
+        //then
+        assertThat(indexUnderTest.page("java", null, 10)).containsExactly(1, mikeSmith.getId());
+        assertThat(indexUnderTest.page("c#", null, 10)).isEmpty();
+        assertThat(indexUnderTest.isActive(3)).isFalse();
+    }
+
+    private static DeveloperSpecialtyView view(Integer id, String specialty) {
+        return new DeveloperSpecialtyView() {
+            @Override
+            public Integer getId() {
+                return id;
+            }
+
+            @Override
+            public String getSpecialty() {
+                return specialty;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DatabaseDeveloperSearchTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @InjectMocks
+    private DatabaseDeveloperSearch searchUnderTest;
+
+    @Test
+    @DisplayName("Test database search stops at the result cap functionality")
+    public void givenPageReachingResultCap_whenSearch_thenLimitIsCutOffAtCap() {
+        //given
+        int offset = DeveloperSearch.MAX_RESULTS - 1;
+        BDDMockito.given(developerRepository.searchActive(eq("john"), any(), eq("john"), eq(1), eq(offset)))
+                .willReturn(List.of(DataUtils.getJohnDoePersisted()));
+
+        //when
+        List<DeveloperDto> developers = searchUnderTest.search("John", offset, 2);
+
+        //then
+        assertThat(developers).extracting(DeveloperDto::getFirstName).containsExactly("John");
+    }
+
+    @Test
+    @DisplayName("Test database search past the result cap functionality")
+    public void givenOffsetAtResultCap_whenSearch_thenNothingIsQueried() {
+        //when
+        List<DeveloperDto> developers = searchUnderTest.search("John", DeveloperSearch.MAX_RESULTS, 1);
+
+        //then
+        assertThat(developers).isEmpty();
+        verify(developerRepository, never()).searchActive(anyString(), any(), anyString(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,52 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperTombstoneRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperChangeFeedTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private DeveloperTombstoneRepository developerTombstoneRepository;
+
+    @Test
+    @DisplayName("Test settle delay shorter than transaction timeout functionality")
+    public void givenSettleDelayShorterThanTransactionTimeout_whenCreateChangeFeed_thenExceptionIsThrown() {
+        //given
+        JpaTransactionManager transactionManager = new JpaTransactionManager();
+        transactionManager.setDefaultTimeout(30);
+
+        //when
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new DeveloperChangeFeed(
+                developerRepository, developerTombstoneRepository, transactionManager, Duration.ofSeconds(1)));
+
+        //then
+        assertThat(exception.getMessage()).contains("PT1S", "30 s");
+    }
+
+    @Test
+    @DisplayName("Test settle delay covering transaction timeout functionality")
+    public void givenSettleDelayCoveringTransactionTimeout_whenCreateChangeFeed_thenFeedIsCreated() {
+        //given
+        JpaTransactionManager transactionManager = new JpaTransactionManager();
+        transactionManager.setDefaultTimeout(30);
+
+        //when
+        //then
+        assertDoesNotThrow(() -> new DeveloperChangeFeed(
+                developerRepository, developerTombstoneRepository, transactionManager, Duration.ofSeconds(30)));
+    }
+}
@@ -1,11 +1,19 @@
 package com.dmadev.qadevs.service;
 
+import com.dmadev.qadevs.config.CacheConfig;
+import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
 import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
 import com.dmadev.qadevs.exception.DeveloperNotFoundException;
+import com.dmadev.qadevs.exception.DeveloperVersionConflictException;
 import com.dmadev.qadevs.exception.DeveloperWithDuplicateEmailException;
 import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.repository.DeveloperTombstoneRepository;
 import com.dmadev.qadevs.util.DataUtils;
+import jakarta.persistence.EntityManager;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,18 +22,33 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.util.CollectionUtils;
 
 
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -35,17 +58,37 @@ import static org.mockito.Mockito.verify;
 class DeveloperServiceImplTest {
     @Mock
     private DeveloperRepository developerRepository;
+    @Mock
+    private DeveloperTombstoneRepository developerTombstoneRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private ActiveSpecialtyIndex activeSpecialtyIndex;
+    @Mock
+    private DeveloperSearch developerSearch;
+    @Mock
+    private SpecialtyDictionary specialtyDictionary;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private DeveloperServiceImpl serviceUnderTest;
 
+    @BeforeEach
+    public void setUp() {
+        Mockito.lenient().when(specialtyDictionary.canonicalName(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     @Test
     @DisplayName("Test save developer functionality")
     public void givenDeveloperToSave_whenSaveDeveloper_thenRepositoryIsCalled() {
         //given
         DeveloperEntity johnDoeTransient = DataUtils.getJohnDoeTransient();
         DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(Optional.empty());
-        BDDMockito.given(developerRepository.save(any(DeveloperEntity.class)))
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
                 .willReturn(DataUtils.getJohnDoePersisted());
         //when
         DeveloperEntity savedDeveloper = serviceUnderTest.saveDeveloper(johnDoeTransient);
@@ -53,24 +96,108 @@ class DeveloperServiceImplTest {
         //then
         assertThat(savedDeveloper).isNotNull();
         assertThat(savedDeveloper).isEqualTo(johnDoePersisted);
+        verify(developerRepository, never()).findByEmail(anyString());
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     @Test
     @DisplayName("Test save developer with duplicate email functionality")
     public void givenDeveloperToSaveWithDuplicateEmail_whenSaveDeveloper_thenExceptionIsThrown() {
         //given
-        DeveloperEntity johnDoeTransient = DataUtils.getJohnDoeTransient();
         DeveloperEntity johnDoeTransientDuplicate = DataUtils.getJohnDoeTransient();
-        BDDMockito.given(developerRepository.findByEmail(johnDoeTransient.getEmail()))
-                .willReturn(Optional.ofNullable(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate key",
+                        new ConstraintViolationException("duplicate key", new SQLException(), "uk_developers_email")));
         //when
         assertThrows(
                 DeveloperWithDuplicateEmailException.class,
                 () -> serviceUnderTest.saveDeveloper(johnDoeTransientDuplicate)
         );
         //then
+        verify(developerRepository, times(1)).saveAndFlush(any(DeveloperEntity.class));
+        verify(developerRepository, never()).findByEmail(anyString());
+
+    }
+
+    @Test
+    @DisplayName("Test save developer with other constraint violation functionality")
+    public void givenDeveloperViolatingOtherConstraint_whenSaveDeveloper_thenOriginalExceptionIsThrown() {
+        //given
+        DeveloperEntity johnDoeTransient = DataUtils.getJohnDoeTransient();
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
+                .willThrow(new DataIntegrityViolationException("not null",
+                        new ConstraintViolationException("not null", new SQLException(), "developers_status_check")));
+        //when
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> serviceUnderTest.saveDeveloper(johnDoeTransient)
+        );
+        //then
+        verify(developerRepository, times(1)).saveAndFlush(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test save developer normalizes email functionality")
+    public void givenDeveloperWithMixedCaseEmail_whenSaveDeveloper_thenEmailIsLowerCased() {
+        //given
+        DeveloperEntity johnDoeTransient = DataUtils.getJohnDoeTransient();
+        johnDoeTransient.setEmail(" John.Doe@Gmail.com ");
+        BDDMockito.given(developerRepository.saveAndFlush(any(DeveloperEntity.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+        //when
+        DeveloperEntity savedDeveloper = serviceUnderTest.saveDeveloper(johnDoeTransient);
+        //then
+        assertThat(savedDeveloper.getEmail()).isEqualTo("john.doe@gmail.com");
+    }
+
+    @Test
+    @DisplayName("Test bulk save developers functionality")
+    public void givenDevelopersWithDuplicates_whenSaveDevelopers_thenOnlyUniqueAreSavedInOneBatch() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoeTransient();
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithTransient();
+        DeveloperEntity mikeSmithDuplicate = DataUtils.getMikeSmithTransient();
+        DeveloperEntity frankJones = DataUtils.getFrankJonesTransient();
+        BDDMockito.given(developerRepository.findExistingEmails(any()))
+                .willReturn(List.of(johnDoe.getEmail()));
+        BDDMockito.given(developerRepository.saveAll(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        BulkSaveResult result = serviceUnderTest.saveDevelopers(List.of(johnDoe, mikeSmith, mikeSmithDuplicate, frankJones));
+
+        //then
+        assertThat(result.getSaved()).containsExactly(mikeSmith, frankJones);
+        assertThat(result.getSaved()).allMatch(developer -> developer.getStatus() == Status.ACTIVE);
+        assertThat(result.getRejected()).containsOnlyKeys(0, 2);
+        verify(developerRepository, times(1)).findExistingEmails(any());
+        verify(developerRepository, times(1)).saveAll(any());
+        verify(developerRepository, never()).findByEmail(anyString());
         verify(developerRepository, never()).save(any(DeveloperEntity.class));
+    }
 
+    @Test
+    @DisplayName("Test bulk save developers with concurrently taken email functionality")
+    public void givenEmailTakenAfterProbe_whenSaveDevelopers_thenChunkIsRetriedRowByRowAndOnlyThatRowIsRejected() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoeTransient();
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithTransient();
+        DataIntegrityViolationException duplicateEmail = new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), "uk_developers_email"));
+        BDDMockito.given(developerRepository.findExistingEmails(any())).willReturn(List.of());
+        BDDMockito.given(developerRepository.saveAll(any())).willAnswer(invocation -> invocation.getArgument(0));
+        BDDMockito.willThrow(duplicateEmail).given(developerRepository).flush();
+        BDDMockito.given(developerRepository.saveAndFlush(johnDoe)).willThrow(duplicateEmail);
+        BDDMockito.given(developerRepository.saveAndFlush(mikeSmith)).willReturn(mikeSmith);
+
+        //when
+        BulkSaveResult result = serviceUnderTest.saveDevelopers(List.of(johnDoe, mikeSmith));
+
+        //then
+        assertThat(result.getSaved()).containsExactly(mikeSmith);
+        assertThat(result.getRejected()).containsOnlyKeys(0);
+        verify(developerRepository, times(2)).saveAndFlush(any(DeveloperEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     @Test
@@ -78,15 +205,35 @@ class DeveloperServiceImplTest {
     public void givenDeveloperToUpdate_whenUpdateDeveloper_thenRepositoryIsCalled() {
         //given
         DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt()))
-                .willReturn(true);
-        BDDMockito.given(developerRepository.save(any(DeveloperEntity.class)))
-                .willReturn(johnDoePersisted);
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setLastName("Updated");
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(johnDoePersisted));
+        //when
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
+        //then
+        assertThat(updatedDeveloper).isSameAs(johnDoePersisted);
+        assertThat(updatedDeveloper.getLastName()).isEqualTo("Updated");
+        verify(developerRepository, times(1)).flush();
+        verify(developerRepository, never()).existsById(anyInt());
+        verify(developerRepository, never()).saveAndFlush(any(DeveloperEntity.class));
+    }
+
+    @Test
+    @DisplayName("Test update developer without status functionality")
+    public void givenDeveloperToUpdateWithoutStatus_whenUpdateDeveloper_thenStatusIsKept() {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        johnDoePersisted.setStatus(Status.DELETED);
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setStatus(null);
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(johnDoePersisted));
         //when
-        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(johnDoePersisted);
+        DeveloperEntity updatedDeveloper = serviceUnderTest.updateDeveloper(developerToUpdate);
         //then
-        assertThat(updatedDeveloper).isNotNull();
-        verify(developerRepository, times(1)).save(any(DeveloperEntity.class));
+        assertThat(updatedDeveloper.getStatus()).isEqualTo(Status.DELETED);
+        verify(developerRepository, times(1)).flush();
     }
 
     @Test
@@ -95,7 +242,7 @@ class DeveloperServiceImplTest {
 
         //given
         DeveloperEntity johnDoeTransientWithIncorrectId = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.existsById(anyInt())).willReturn(false);
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
 
         //when
         assertThrows(
@@ -105,25 +252,125 @@ class DeveloperServiceImplTest {
         //then
         verify(developerRepository, never()).save(any(DeveloperEntity.class));
         verify(developerRepository, times(0)).save(any(DeveloperEntity.class));
+        verify(developerRepository, never()).saveAndFlush(any(DeveloperEntity.class));
+        verify(developerRepository, never()).flush();
+
+    }
+
+    @Test
+    @DisplayName("test update developer with stale version functionality")
+    public void givenStaleVersion_whenUpdateDeveloper_thenVersionConflictExceptionIsThrown() {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        johnDoePersisted.setVersion(3);
+        DeveloperEntity developerToUpdate = DataUtils.getJohnDoePersisted();
+        developerToUpdate.setVersion(2);
+        BDDMockito.given(developerRepository.findById(anyInt()))
+                .willReturn(Optional.of(johnDoePersisted));
+
+        //when
+        DeveloperVersionConflictException exception = assertThrows(
+                DeveloperVersionConflictException.class, () -> serviceUnderTest.updateDeveloper(developerToUpdate)
+        );
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("Developer with id: 1 has version 3, expected 2");
+        verify(developerRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("test patch developer functionality")
+    public void givenPartialChanges_whenPatchDeveloper_thenOnlySuppliedFieldsAreChanged() {
+        //given
+        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
+        DeveloperEntity changes = DeveloperEntity.builder()
+                .email(" John.Patched@Gmail.com ")
+                .build();
+        BDDMockito.given(developerRepository.findById(johnDoePersisted.getId()))
+                .willReturn(Optional.of(johnDoePersisted));
+
+        //when
+        DeveloperEntity patchedDeveloper = serviceUnderTest.patchDeveloper(johnDoePersisted.getId(), changes);
+
+        //then
+        assertThat(patchedDeveloper.getEmail()).isEqualTo("john.patched@gmail.com");
+        assertThat(patchedDeveloper.getFirstName()).isEqualTo("John");
+        assertThat(patchedDeveloper.getLastName()).isEqualTo("Doe");
+        assertThat(patchedDeveloper.getSpecialty()).isEqualTo("java");
+        assertThat(patchedDeveloper.getStatus()).isEqualTo(Status.ACTIVE);
+        verify(developerRepository, times(1)).flush();
+        verify(developerRepository, never()).save(any(DeveloperEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("test patch developer with incorrect id functionality")
+    public void givenIncorrectId_whenPatchDeveloper_thenExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
 
+        //when
+        assertThrows(
+                DeveloperNotFoundException.class, () -> serviceUnderTest.patchDeveloper(1, new DeveloperEntity())
+        );
+
+        //then
+        verify(developerRepository, never()).flush();
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
     }
 
-    ;
+    @Test
+    @DisplayName("test patch developer with duplicate email functionality")
+    public void givenTakenEmail_whenPatchDeveloper_thenDuplicateEmailExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.willThrow(new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("duplicate", new SQLException(), "uk_developers_email")))
+                .given(developerRepository).flush();
+
+        //when
+        assertThrows(
+                DeveloperWithDuplicateEmailException.class,
+                () -> serviceUnderTest.patchDeveloper(1, DeveloperEntity.builder().email("mike.smith@gmail.com").build())
+        );
+
+        //then
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+
+    @Test
+    @DisplayName("test patch developer modified concurrently functionality")
+    public void givenConcurrentModification_whenPatchDeveloper_thenVersionConflictExceptionIsThrown() {
+        //given
+        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.willThrow(new ObjectOptimisticLockingFailureException(DeveloperEntity.class, 1))
+                .given(developerRepository).flush();
+
+        //when
+        assertThrows(
+                DeveloperVersionConflictException.class,
+                () -> serviceUnderTest.patchDeveloper(1, DeveloperEntity.builder().lastName("Patched").version(0).build())
+        );
 
+        //then
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
 
     @Test
     @DisplayName("test get developer by id functionality")
     public void givenId_whenGetById_thenDeveloperIsReturn() {
         //given
         DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
+        BDDMockito.given(developerRepository.findCachedById(anyInt())).willReturn(Optional.of(DataUtils.getJohnDoePersisted()));
         //when
         DeveloperEntity obtainedDeveloper = serviceUnderTest.getDeveloperById(johnDoePersisted.getId());
 
         //then
         assertThat(obtainedDeveloper).isNotNull();
         assertThat(obtainedDeveloper).isEqualTo(DataUtils.getJohnDoePersisted());
-        verify(developerRepository, times(1)).findById(anyInt());
+        verify(developerRepository, times(1)).findCachedById(anyInt());
     }
 
     @Test
@@ -132,13 +379,13 @@ class DeveloperServiceImplTest {
         //given
         DeveloperEntity frankJonesPersisted = DataUtils.getFrankJonesPersisted();
 
-        BDDMockito.given(developerRepository.findById(anyInt())).willThrow(DeveloperNotFoundException.class);
+        BDDMockito.given(developerRepository.findCachedById(anyInt())).willThrow(DeveloperNotFoundException.class);
 
         //when
         assertThrows(DeveloperNotFoundException.class, () -> serviceUnderTest.getDeveloperById(frankJonesPersisted.getId()));
 
         //then
-        verify(developerRepository, times(1)).findById(anyInt());
+        verify(developerRepository, times(1)).findCachedById(anyInt());
     }
 
     @Test
@@ -148,7 +395,7 @@ class DeveloperServiceImplTest {
         DeveloperEntity frankJonesPersisted = DataUtils.getFrankJonesPersisted();
         DeveloperEntity frankJonesPersistedOptinal = DataUtils.getFrankJonesPersisted();
         String email = frankJonesPersisted.getEmail();
-        BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(Optional.of(frankJonesPersisted));
+        BDDMockito.given(developerRepository.findCachedByEmail(anyString())).willReturn(Optional.of(frankJonesPersisted));
 
         //when
         Optional<DeveloperEntity> obtainedDeveloper = serviceUnderTest.getDeveloperByEmail(email);
@@ -165,8 +412,8 @@ class DeveloperServiceImplTest {
         //given
         DeveloperEntity frankJonesPersisted = DataUtils.getFrankJonesPersisted();
         String email = frankJonesPersisted.getEmail();
-        BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(null);
-        //BDDMockito.given(developerRepository.findByEmail(anyString())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.findCachedByEmail(anyString())).willReturn(null);
+        //BDDMockito.given(developerRepository.findCachedByEmail(anyString())).willReturn(Optional.empty());
 
 
         //when
@@ -175,42 +422,124 @@ class DeveloperServiceImplTest {
         );
 
         //then
-        verify(developerRepository, times(1)).findByEmail(anyString());
+        verify(developerRepository, times(1)).findCachedByEmail(anyString());
 
 
     }
 
     @Test
     @DisplayName("test get all developers when active functionality")
-    public void givenThreeDevelopers_whenGetAll_thenOnlyActiveAreReturned() {
+    public void givenThreeDevelopers_whenGetAll_thenOnlyActiveAreRequestedFromRepository() {
         //given
-        DeveloperEntity frankJonesPersisted = DataUtils.getFrankJonesPersisted();
-        DeveloperEntity johnDoePersisted = DataUtils.getJohnDoePersisted();
-        DeveloperEntity mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
+        List<DeveloperDto> activeDevelopers = Stream.of(DataUtils.getJohnDoePersisted(), DataUtils.getMikeSmithPersisted())
+                .map(DeveloperDto::fromEntity)
+                .toList();
+        BDDMockito.given(developerRepository.findAllByStatus(Status.ACTIVE)).willReturn(activeDevelopers);
 
-        List<DeveloperEntity> developers =
-                List.of(frankJonesPersisted, johnDoePersisted, mikeSmithPersisted);
-        List<DeveloperEntity> developersFilteredActive =
-                List.of(frankJonesPersisted, johnDoePersisted, mikeSmithPersisted)
-                        .stream()
-                        .filter(developer -> developer.getStatus().equals(Status.ACTIVE))
-                        .collect(Collectors.toList());
+        //when
+        List<DeveloperDto> allDevelopers = serviceUnderTest.getAllDevelopers();
+
+        //then
+        assertThat(allDevelopers).isSameAs(activeDevelopers);
+        verify(developerRepository, times(1)).findAllByStatus(Status.ACTIVE);
+        verify(developerRepository, never()).findAllByStatus(Status.DELETED);
+        verify(developerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("test get active developers page functionality")
+    public void givenCursor_whenGetActiveDevelopersPage_thenKeysetQueryIsUsed() {
+        //given
+        var mikeSmithDtoPersisted = DataUtils.getMikeSmithDtoPersisted();
+        BDDMockito.given(developerRepository.findPageByStatus(eq(Status.ACTIVE), eq(1), any(Pageable.class)))
+                .willReturn(List.of(mikeSmithDtoPersisted));
 
-        BDDMockito.given(developerRepository.findAll()).willReturn(developers);
         //when
-        List<DeveloperEntity> allDevelopers = serviceUnderTest.getAllDevelopers();
+        List<DeveloperDto> page = serviceUnderTest.getActiveDevelopersPage(1, 10);
 
         //then
-        assertThat(CollectionUtils.isEmpty(allDevelopers)).isFalse();
-        assertThat(allDevelopers.size()).isEqualTo(developersFilteredActive.size());
-        assertThat(allDevelopers
-                .stream()
-                .map(DeveloperEntity::getStatus)
-                .toList()
-                .size())
-                .isEqualTo(developersFilteredActive.size());
-        verify(developerRepository, times(1)).findAll();
+        assertThat(page).containsExactly(mikeSmithDtoPersisted);
+        verify(developerRepository, times(1)).findPageByStatus(Status.ACTIVE, 1, PageRequest.ofSize(10));
+        verify(developerRepository, never()).findAll();
+    }
 
+    @Test
+    @DisplayName("test get developers by ids functionality")
+    public void givenPartlyCachedIds_whenGetDevelopersByIds_thenOnlyUncachedIdsAreQueriedOnce() {
+        //given
+        var johnDoePersisted = DataUtils.getJohnDoePersisted();
+        var mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
+        Cache cache = Mockito.mock(Cache.class);
+        BDDMockito.given(cacheManager.getCache(CacheConfig.DEVELOPERS_BY_ID)).willReturn(cache);
+        BDDMockito.given(cache.get(johnDoePersisted.getId())).willReturn(new SimpleValueWrapper(johnDoePersisted));
+        // a cached miss
+        BDDMockito.given(cache.get(5)).willReturn(new SimpleValueWrapper(null));
+        BDDMockito.given(cache.get(mikeSmithPersisted.getId())).willReturn(null);
+        BDDMockito.given(cache.get(3)).willReturn(null);
+        BDDMockito.given(developerRepository.findAllById(List.of(mikeSmithPersisted.getId(), 3)))
+                .willReturn(List.of(mikeSmithPersisted));
+
+        //when
+        Map<Integer, DeveloperEntity> found = serviceUnderTest.getDevelopersByIds(
+                List.of(mikeSmithPersisted.getId(), 5, johnDoePersisted.getId(), 3));
+
+        //then
+        assertThat(found).containsOnlyKeys(johnDoePersisted.getId(), mikeSmithPersisted.getId());
+        verify(developerRepository, times(1)).findAllById(any());
+        verify(cache, times(1)).put(mikeSmithPersisted.getId(), mikeSmithPersisted);
+        verify(cache, times(1)).put(3, null);
+    }
+
+    @Test
+    @DisplayName("test get bench developers page functionality")
+    public void givenCursor_whenGetBenchDevelopersPage_thenDeletedRowsAreQueried() {
+        //given
+        var frankJonesDtoPersisted = DataUtils.getFrankJonesDtoPersisted();
+        BDDMockito.given(developerRepository.findPageByStatus(eq(Status.DELETED), eq(0), any(Pageable.class)))
+                .willReturn(List.of(frankJonesDtoPersisted));
+
+        //when
+        List<DeveloperDto> page = serviceUnderTest.getBenchDevelopersPage(null, 10);
+
+        //then
+        assertThat(page).containsExactly(frankJonesDtoPersisted);
+        verify(developerRepository, times(1)).findPageByStatus(Status.DELETED, 0, PageRequest.ofSize(10));
+        verify(developerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("test get first active developers page functionality")
+    public void givenNoCursor_whenGetActiveDevelopersPage_thenPageStartsFromTheBeginning() {
+        //given
+        BDDMockito.given(developerRepository.findPageByStatus(eq(Status.ACTIVE), eq(0), any(Pageable.class)))
+                .willReturn(List.of());
+
+        //when
+        List<DeveloperDto> page = serviceUnderTest.getActiveDevelopersPage(null, 10);
+
+        //then
+        assertThat(page).isEmpty();
+        verify(developerRepository, times(1)).findPageByStatus(Status.ACTIVE, 0, PageRequest.ofSize(10));
+    }
+
+    @Test
+    @DisplayName("test export developers functionality")
+    public void givenActiveDevelopers_whenExportDevelopers_thenEachRowIsPassedAndDetached() {
+        //given
+        var johnDoePersisted = DataUtils.getJohnDoePersisted();
+        var mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
+        List<DeveloperEntity> exported = new ArrayList<>();
+        BDDMockito.given(developerRepository.streamAllByStatus(Status.ACTIVE))
+                .willReturn(Stream.of(johnDoePersisted, mikeSmithPersisted));
+
+        //when
+        serviceUnderTest.exportDevelopers(Status.ACTIVE, exported::add);
+
+        //then
+        assertThat(exported).containsExactly(johnDoePersisted, mikeSmithPersisted);
+        verify(entityManager, times(1)).detach(johnDoePersisted);
+        verify(entityManager, times(1)).detach(mikeSmithPersisted);
+        verify(developerRepository, never()).findAll();
     }
 
     @Test
@@ -221,17 +550,18 @@ class DeveloperServiceImplTest {
         var frankJonesPersisted = DataUtils.getFrankJonesPersisted();
         var johnDoePersisted = DataUtils.getJohnDoePersisted();
         var mikeSmithPersisted = DataUtils.getMikeSmithPersisted();
-        List<DeveloperEntity> developerSortedByActiveAndSpecialty =
+        List<DeveloperDto> developerSortedByActiveAndSpecialty =
                 List.of(frankJonesPersisted, johnDoePersisted, mikeSmithPersisted)
                 .stream()
                 .filter(developer -> developer.getStatus().equals(Status.ACTIVE))
                 .filter(developer -> developer.getSpecialty().equals(specialtyJava))
+                .map(DeveloperDto::fromEntity)
                 .collect(Collectors.toList());
 
         BDDMockito.given(developerRepository.findAllActiveBySpecialty(anyString())).willReturn(developerSortedByActiveAndSpecialty);
 
         //when
-        List<DeveloperEntity> obtainedAllActiveBySpecialty = serviceUnderTest.getAllActiveBySpecialty(specialtyJava);
+        List<DeveloperDto> obtainedAllActiveBySpecialty = serviceUnderTest.getAllActiveBySpecialty(specialtyJava);
 
         //then
         assertThat(CollectionUtils.isEmpty(obtainedAllActiveBySpecialty)).isFalse();
@@ -239,30 +569,83 @@ class DeveloperServiceImplTest {
 
     }
 
+    @Test
+    @DisplayName("test get active developers by specialty page functionality")
+    public void givenIndexedIds_whenGetActiveBySpecialtyPage_thenDevelopersAreLoadedById() {
+        //given
+        var johnDoeDtoPersisted = DataUtils.getJohnDoeDtoPersisted();
+        var mikeSmithDtoPersisted = DataUtils.getMikeSmithDtoPersisted();
+        BDDMockito.given(activeSpecialtyIndex.page("java", null, 10))
+                .willReturn(List.of(johnDoeDtoPersisted.getId(), mikeSmithDtoPersisted.getId()));
+        BDDMockito.given(developerRepository.findActiveDtosById(List.of(johnDoeDtoPersisted.getId(), mikeSmithDtoPersisted.getId())))
+                .willReturn(List.of(johnDoeDtoPersisted, mikeSmithDtoPersisted));
+
+        //when
+        List<DeveloperDto> page = serviceUnderTest.getActiveBySpecialtyPage("java", null, 10);
+
+        //then
+        assertThat(page).containsExactly(johnDoeDtoPersisted, mikeSmithDtoPersisted);
+        verify(developerRepository, never()).findAllActiveBySpecialty(anyString());
+    }
+
+    @Test
+    @DisplayName("test get active developers by specialty page with stale index functionality")
+    public void givenIndexedIdDeactivatedBeforeLoad_whenGetActiveBySpecialtyPage_thenPageIsToppedUp() {
+        //given
+        var johnDoeDtoPersisted = DataUtils.getJohnDoeDtoPersisted();
+        var frankJonesDtoPersisted = DataUtils.getFrankJonesDtoPersisted();
+        frankJonesDtoPersisted.setStatus(Status.ACTIVE);
+        BDDMockito.given(activeSpecialtyIndex.page("java", null, 2)).willReturn(List.of(1, 2));
+        // id 2 was deactivated after the index was read
+        BDDMockito.given(developerRepository.findActiveDtosById(List.of(1, 2))).willReturn(List.of(johnDoeDtoPersisted));
+        BDDMockito.given(activeSpecialtyIndex.page("java", 2, 1)).willReturn(List.of(3));
+        BDDMockito.given(developerRepository.findActiveDtosById(List.of(3))).willReturn(List.of(frankJonesDtoPersisted));
+
+        //when
+        List<DeveloperDto> page = serviceUnderTest.getActiveBySpecialtyPage("java", null, 2);
+
+        //then
+        assertThat(page).containsExactly(johnDoeDtoPersisted, frankJonesDtoPersisted);
+    }
+
+    @Test
+    @DisplayName("test get active developers by unknown specialty page functionality")
+    public void givenNoIndexedIds_whenGetActiveBySpecialtyPage_thenDatabaseIsNotQueried() {
+        //given
+        BDDMockito.given(activeSpecialtyIndex.page("go", null, 10)).willReturn(List.of());
+
+        //when
+        List<DeveloperDto> page = serviceUnderTest.getActiveBySpecialtyPage("go", null, 10);
+
+        //then
+        assertThat(page).isEmpty();
+        verify(developerRepository, never()).findActiveDtosById(any());
+    }
+
     @Test
     @DisplayName("test soft delete by id functionality")
-    public void givenId_whenSoftDeleteById_thenRepositorySaveMethodIsCalled(){
+    public void givenId_whenSoftDeleteById_thenSingleUpdateIsExecuted(){
         //given
         var johnDoePersisted = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.ofNullable(johnDoePersisted));
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class))).willReturn(1);
 
         //when
         serviceUnderTest.softDeleteById(johnDoePersisted.getId());
         //then
-        verify(developerRepository,times(1)).save(any(DeveloperEntity.class));
-        verify(developerRepository,times(1)).findById(anyInt());
-        verify(developerRepository,times(0)).deleteById(anyInt());
-        verify(developerRepository,never()).delete(any(DeveloperEntity.class));
+        verify(developerRepository,times(1)).softDeleteById(eq(johnDoePersisted.getId()), any(Instant.class));
+        verify(developerRepository,never()).findById(anyInt());
+        verify(developerRepository,never()).save(any(DeveloperEntity.class));
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
 
     }
 
     @Test
     @DisplayName("test soft delete by incorrect id functionality")
-    public void givenIncorrectId_whenSoftDeleteById_thenRepositorySaveMethodIsCalled(){
+    public void givenIncorrectId_whenSoftDeleteById_thenExceptionIsThrown(){
         //given
         var johnDoePersisted = DataUtils.getJohnDoePersisted();
 
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.softDeleteById(anyInt(), any(Instant.class))).willReturn(0);
 
         //when
         assertThrows(
@@ -270,45 +653,96 @@ class DeveloperServiceImplTest {
         );
 
         //then
-        verify(developerRepository,times(0)).save(any(DeveloperEntity.class));
-        verify(developerRepository,times(1)).findById(anyInt());
-        verify(developerRepository,times(0)).deleteById(anyInt());
-        verify(developerRepository,never()).delete(any(DeveloperEntity.class));
+        verify(developerRepository,never()).findById(anyInt());
+        verify(developerRepository,never()).save(any(DeveloperEntity.class));
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
 
     }
 
     @Test
     @DisplayName("test hard delete by id functionality")
-    public void givenId_whenHardDeleteById_thenRepositoryDeleteMethodIsCalled(){
+    public void givenId_whenHardDeleteById_thenSingleDeleteIsExecuted(){
         //given
         var johnDoePersisted = DataUtils.getJohnDoePersisted();
         Integer johnDoePersistedId = johnDoePersisted.getId();
 
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.of(johnDoePersisted));
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt())).willReturn(1);
 
         //when
         serviceUnderTest.hardDeleteById(johnDoePersistedId);
         //then
-        verify(developerRepository,times(1)).deleteById(anyInt());
-        verify(developerRepository,times(1)).findById(anyInt());
-        verify(developerRepository,never()).delete(any(DeveloperEntity.class));
+        verify(developerRepository,times(1)).hardDeleteById(johnDoePersistedId);
+        verify(developerTombstoneRepository,times(1)).insertForExisting(eq(List.of(johnDoePersistedId)), any(Instant.class));
+        verify(developerRepository,never()).findById(anyInt());
+        verify(developerRepository,never()).deleteById(anyInt());
     }
 
     @Test
     @DisplayName("test hard delete by incorrect id functionality")
-    public void givenIncorrectId_whenHardDeleteById_thenRepositoryDeleteMethodIsCalled(){
+    public void givenIncorrectId_whenHardDeleteById_thenExceptionIsThrown(){
         //given
         var johnDoePersisted = DataUtils.getJohnDoePersisted();
-        BDDMockito.given(developerRepository.findById(anyInt())).willReturn(Optional.empty());
+        BDDMockito.given(developerRepository.hardDeleteById(anyInt())).willReturn(0);
 
         //when
         assertThrows(
                 DeveloperNotFoundException.class,()->serviceUnderTest.hardDeleteById(johnDoePersisted.getId())
         );
         //then
-        verify(developerRepository,times(0)).deleteById(anyInt());
-        verify(developerRepository,never()).delete(any(DeveloperEntity.class));
-        verify(developerRepository,times(1)).findById(anyInt());
+        verify(developerRepository,never()).deleteById(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("test bulk soft delete functionality")
+    public void givenIds_whenSoftDeleteAllById_thenOneStatementAndOneEventPerAffectedIdAreIssued(){
+        //given
+        List<Integer> ids = List.of(1, 2, 3);
+        BDDMockito.given(developerRepository.lockActiveIdsByIdIn(ids)).willReturn(List.of(1, 3));
+        BDDMockito.given(developerRepository.softDeleteByIdIn(eq(List.of(1, 3)), any(Instant.class))).willReturn(2);
+
+        //when
+        int deleted = serviceUnderTest.softDeleteAllById(ids);
+
+        //then
+        assertThat(deleted).isEqualTo(2);
+        verify(developerRepository,times(1)).softDeleteByIdIn(eq(List.of(1, 3)), any(Instant.class));
+        verify(eventPublisher, times(2)).publishEvent(any(DeveloperChangedEvent.class));
+        verify(eventPublisher, never()).publishEvent(argThat((DeveloperChangedEvent event) -> event.getId() == 2));
+    }
+
+    @Test
+    @DisplayName("test bulk soft delete of no active developer functionality")
+    public void givenNoActiveIds_whenSoftDeleteAllById_thenNothingIsUpdatedOrPublished(){
+        //given
+        List<Integer> ids = List.of(1, 2);
+        BDDMockito.given(developerRepository.lockActiveIdsByIdIn(ids)).willReturn(List.of());
+
+        //when
+        int deleted = serviceUnderTest.softDeleteAllById(ids);
+
+        //then
+        assertThat(deleted).isZero();
+        verify(developerRepository, never()).softDeleteByIdIn(any(), any(Instant.class));
+        verify(eventPublisher, never()).publishEvent(any(DeveloperChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("test bulk hard delete functionality")
+    public void givenIds_whenHardDeleteAllById_thenOneStatementAndOneEventPerAffectedIdAreIssued(){
+        //given
+        List<Integer> ids = List.of(1, 2);
+        BDDMockito.given(developerRepository.lockIdsByIdIn(ids)).willReturn(List.of(2));
+        BDDMockito.given(developerRepository.hardDeleteByIdIn(List.of(2))).willReturn(1);
+
+        //when
+        int deleted = serviceUnderTest.hardDeleteAllById(ids);
+
+        //then
+        assertThat(deleted).isEqualTo(1);
+        verify(developerTombstoneRepository,times(1)).insertForExisting(eq(List.of(2)), any(Instant.class));
+        verify(developerRepository,never()).deleteAllById(any());
+        verify(eventPublisher, times(1)).publishEvent(any(DeveloperChangedEvent.class));
     }
 
     //eof
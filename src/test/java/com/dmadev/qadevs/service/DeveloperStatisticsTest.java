@@ -0,0 +1,150 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperStatsDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
+import com.dmadev.qadevs.repository.DeveloperCountView;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.util.DataUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DeveloperStatisticsTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @Mock
+    private ActiveSpecialtyIndex activeSpecialtyIndex;
+    @Mock
+    private SpecialtyDictionary specialtyDictionary;
+    @InjectMocks
+    private DeveloperStatistics statisticsUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.lenient().when(specialtyDictionary.idOf("java")).thenReturn((short) 1);
+        Mockito.lenient().when(specialtyDictionary.idOf("c#")).thenReturn((short) 2);
+        Mockito.lenient().when(specialtyDictionary.nameOf((short) 1)).thenReturn("java");
+        Mockito.lenient().when(specialtyDictionary.nameOf((short) 2)).thenReturn("c#");
+    }
+
+    @Test
+    @DisplayName("Test reconcile statistics functionality")
+    public void givenCountsInDatabase_whenReconcile_thenSnapshotHasThem() {
+        //given
+        BDDMockito.given(developerRepository.countByStatusAndSpecialty()).willReturn(List.of(
+                view(Status.ACTIVE, "java", 3L),
+                view(Status.ACTIVE, "c#", 2L),
+                view(Status.ACTIVE, null, 1L),
+                view(Status.DELETED, "java", 4L)));
+
+        //when
+        statisticsUnderTest.reconcile();
+        DeveloperStatsDto stats = statisticsUnderTest.snapshot();
+
+        //then
+        assertThat(stats.getActive()).isEqualTo(6);
+        assertThat(stats.getDeleted()).isEqualTo(4);
+        assertThat(stats.getActiveBySpecialty()).isEqualTo(Map.of("java", 3L, "c#", 2L));
+    }
+
+    @Test
+    @DisplayName("Test statistics follow developer changes functionality")
+    public void givenDeveloperChanges_whenEventsArrive_thenCountersAreAdjusted() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoePersisted();
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithPersisted();
+        BDDMockito.given(activeSpecialtyIndex.apply(any(), any())).willReturn(
+                new ActiveSpecialtyIndex.PreviousState(false, null),
+                new ActiveSpecialtyIndex.PreviousState(false, null),
+                new ActiveSpecialtyIndex.PreviousState(true, (short) 1),
+                new ActiveSpecialtyIndex.PreviousState(true, (short) 1),
+                new ActiveSpecialtyIndex.PreviousState(false, null),
+                new ActiveSpecialtyIndex.PreviousState(false, null));
+
+        //when
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.CREATED, johnDoe.getId(), johnDoe));
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.CREATED, mikeSmith.getId(), mikeSmith));
+        mikeSmith.setSpecialty("c#");
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.UPDATED, mikeSmith.getId(), mikeSmith));
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, johnDoe.getId(), null));
+        DeveloperStatsDto stats = statisticsUnderTest.snapshot();
+
+        //then
+        assertThat(stats.getActive()).isEqualTo(1);
+        assertThat(stats.getDeleted()).isEqualTo(1);
+        assertThat(stats.getActiveBySpecialty()).isEqualTo(Map.of("c#", 1L));
+        verify(activeSpecialtyIndex).apply(argThat(event -> event.getType() == ChangeType.UPDATED), eq((short) 2));
+
+        //when
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.HARD_DELETED, johnDoe.getId(), null));
+        // a repeated soft delete matches no active row and changes nothing
+        statisticsUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, johnDoe.getId(), null));
+        stats = statisticsUnderTest.snapshot();
+
+        //then
+        assertThat(stats.getActive()).isEqualTo(1);
+        assertThat(stats.getDeleted()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test statistics keep changes made during reconcile functionality")
+    public void givenChangeDuringReconcile_whenReconcile_thenChangeIsAppliedToReconciledCounters() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoePersisted();
+        BDDMockito.given(activeSpecialtyIndex.apply(any(), any())).willReturn(new ActiveSpecialtyIndex.PreviousState(false, null));
+        BDDMockito.given(developerRepository.countByStatusAndSpecialty()).willAnswer(invocation -> {
+            // committed after the query took its snapshot; the listener must not wait for the query
+            CompletableFuture.runAsync(() -> statisticsUnderTest.onDeveloperChanged(
+                    new DeveloperChangedEvent(ChangeType.CREATED, johnDoe.getId(), johnDoe))).get(5, TimeUnit.SECONDS);
+            return List.of(view(Status.ACTIVE, "java", 3L));
+        });
+
+        //when
+        statisticsUnderTest.reconcile();
+        DeveloperStatsDto stats = statisticsUnderTest.snapshot();
+
+        //then
+        assertThat(stats.getActive()).isEqualTo(4);
+        assertThat(stats.getActiveBySpecialty()).isEqualTo(Map.of("java", 4L));
+    }
+
+    private static DeveloperCountView view(Status status, String specialty, Long count) {
+        return new DeveloperCountView() {
+            @Override
+            public Status getStatus() {
+                return status;
+            }
+
+            @Override
+            public String getSpecialty() {
+                return specialty;
+            }
+
+            @Override
+            public Long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.dmadev.qadevs.service;
+
+import com.dmadev.qadevs.dto.DeveloperDto;
+import com.dmadev.qadevs.entity.DeveloperEntity;
+import com.dmadev.qadevs.entity.Status;
+import com.dmadev.qadevs.event.DeveloperChangedEvent;
+import com.dmadev.qadevs.event.DeveloperChangedEvent.ChangeType;
+import com.dmadev.qadevs.repository.DeveloperRepository;
+import com.dmadev.qadevs.util.DataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryDeveloperSearchTest {
+    @Mock
+    private DeveloperRepository developerRepository;
+    @InjectMocks
+    private InMemoryDeveloperSearch searchUnderTest;
+
+    @Test
+    @DisplayName("Test in-memory search by word prefixes functionality")
+    public void givenIndexedDevelopers_whenSearch_thenEveryQueryWordMustPrefixAWord() {
+        //given
+        BDDMockito.given(developerRepository.findAllByStatus(Status.ACTIVE))
+                .willReturn(List.of(DataUtils.getJohnDoeDtoPersisted(), DataUtils.getMikeSmithDtoPersisted()));
+        searchUnderTest.rebuild();
+
+        //when
+        List<DeveloperDto> byFirstName = searchUnderTest.search("Joh", 0, 10);
+        List<DeveloperDto> byTwoWords = searchUnderTest.search("mike smi", 0, 10);
+        List<DeveloperDto> byEmailDomain = searchUnderTest.search("mail", 0, 10);
+        List<DeveloperDto> mismatch = searchUnderTest.search("john smith", 0, 10);
+
+        //then
+        assertThat(byFirstName).extracting(DeveloperDto::getFirstName).containsExactly("John");
+        assertThat(byTwoWords).extracting(DeveloperDto::getFirstName).containsExactly("Mike");
+        assertThat(byEmailDomain).hasSize(2);
+        assertThat(mismatch).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test in-memory search by specialty functionality")
+    public void givenIndexedDevelopers_whenSearchBySpecialty_thenSpecialtyWordsMatch() {
+        //given
+        searchUnderTest.put(DeveloperDto.builder().id(1).firstName("John").lastName("Doe").specialty("Kotlin").build());
+        searchUnderTest.put(DeveloperDto.builder().id(2).firstName("John").lastName("Lee").specialty("Java").build());
+
+        //when
+        List<DeveloperDto> bySpecialty = searchUnderTest.search("kotl", 0, 10);
+        List<DeveloperDto> byNameAndSpecialty = searchUnderTest.search("john java", 0, 10);
+
+        //then
+        assertThat(bySpecialty).extracting(DeveloperDto::getId).containsExactly(1);
+        assertThat(byNameAndSpecialty).extracting(DeveloperDto::getId).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Test in-memory search ranks exact words first functionality")
+    public void givenPrefixAndExactMatches_whenSearch_thenExactMatchesComeFirstAndArePaged() {
+        //given
+        searchUnderTest.put(DeveloperDto.builder().id(1).firstName("Johnny").lastName("Cash").build());
+        searchUnderTest.put(DeveloperDto.builder().id(2).firstName("John").lastName("Doe").build());
+        searchUnderTest.put(DeveloperDto.builder().id(3).firstName("Johnson").lastName("Lee").build());
+
+        //when
+        List<DeveloperDto> firstPage = searchUnderTest.search("john", 0, 2);
+        List<DeveloperDto> secondPage = searchUnderTest.search("john", 2, 2);
+
+        //then
+        assertThat(firstPage).extracting(DeveloperDto::getId).containsExactly(2, 1);
+        assertThat(secondPage).extracting(DeveloperDto::getId).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("Test in-memory search follows developer changes functionality")
+    public void givenDeveloperChanges_whenEventsArrive_thenSearchReflectsThem() {
+        //given
+        DeveloperEntity johnDoe = DataUtils.getJohnDoePersisted();
+        searchUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.CREATED, johnDoe.getId(), johnDoe));
+        DeveloperEntity renamed = DataUtils.getJohnDoePersisted();
+        renamed.setFirstName("Jack");
+
+        //when
+        searchUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.UPDATED, renamed.getId(), renamed));
+        List<DeveloperDto> byOldName = searchUnderTest.search("john", 0, 10);
+        List<DeveloperDto> byNewName = searchUnderTest.search("jack", 0, 10);
+        searchUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, renamed.getId(), null));
+        List<DeveloperDto> afterDelete = searchUnderTest.search("jack", 0, 10);
+
+        //then
+        assertThat(byOldName).isEmpty();
+        assertThat(byNewName).extracting(DeveloperDto::getId).containsExactly(johnDoe.getId());
+        assertThat(afterDelete).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test in-memory search keeps changes made during rebuild functionality")
+    public void givenChangesDuringRebuild_whenRebuild_thenRebuiltIndexHasThem() {
+        //given
+        DeveloperEntity mikeSmith = DataUtils.getMikeSmithPersisted();
+        BDDMockito.given(developerRepository.findAllByStatus(Status.ACTIVE)).willAnswer(invocation -> {
+            // committed after the read took its snapshot
+            searchUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.CREATED, mikeSmith.getId(), mikeSmith));
+            searchUnderTest.onDeveloperChanged(new DeveloperChangedEvent(ChangeType.SOFT_DELETED, 1, null));
+            return List.of(DataUtils.getJohnDoeDtoPersisted());
+        });
+
+        //when
+        searchUnderTest.rebuild();
+
+        //then
+        assertThat(searchUnderTest.search("mike", 0, 10)).extracting(DeveloperDto::getId).containsExactly(mikeSmith.getId());
+        assertThat(searchUnderTest.search("john", 0, 10)).isEmpty();
+    }
+}
@@ -4,8 +4,16 @@ import com.dmadev.qadevs.dto.DeveloperDto;
 import com.dmadev.qadevs.entity.DeveloperEntity;
 import com.dmadev.qadevs.entity.Status;
 
+import java.util.List;
+
 public abstract class DataUtils {
 
+    /**
+     * Specialties of the developers below. Tests that save developers through the repository register them
+     * first, since only the service registers new names.
+     */
+    public static final List<String> SPECIALTIES = List.of("java", "c#");
+
     public static DeveloperEntity getJohnDoeTransient() {
         return DeveloperEntity.builder()
                 .firstName("John")
@@ -42,6 +50,7 @@ public abstract class DataUtils {
                 .email("john.doe@gmail.com")
                 .specialty("java")
                 .status(Status.ACTIVE)
+                .version(0)
                 .build();
     }
     public static DeveloperEntity getMikeSmithPersisted() {
@@ -52,6 +61,7 @@ public abstract class DataUtils {
                 .email("mike.smith@gmail.com")
                 .specialty("java")
                 .status(Status.ACTIVE)
+                .version(0)
                 .build();
     }
     public static DeveloperEntity getFrankJonesPersisted() {
@@ -62,6 +72,7 @@ public abstract class DataUtils {
                 .email("frank.jones@gmail.com")
                 .specialty("c#")
                 .status(Status.DELETED)
+                .version(0)
                 .build();
     }
 
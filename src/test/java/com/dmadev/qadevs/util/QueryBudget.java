@@ -0,0 +1,44 @@
+package com.dmadev.qadevs.util;
+
+import com.dmadev.qadevs.query.QueryCountFilter;
+import com.dmadev.qadevs.query.QueryCounter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query budgets for tests running with {@code qadevs.query-count.enabled=true} (the {@code test} profile).
+ * A change that adds statements to an endpoint, or makes it read more rows, fails the build.
+ */
+public abstract class QueryBudget {
+
+    public static ResultMatcher statementsAtMost(long budget) {
+        return result -> assertThat(headerValue(result.getResponse().getHeader(QueryCountFilter.STATEMENTS_HEADER)))
+                .as("SQL statements executed by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(budget);
+    }
+
+    public static ResultMatcher rowsAtMost(long budget) {
+        return result -> assertThat(headerValue(result.getResponse().getHeader(QueryCountFilter.ROWS_HEADER)))
+                .as("rows fetched by %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(budget);
+    }
+
+    /**
+     * Budget for code called directly rather than through MockMvc; it must run on the calling thread.
+     */
+    public static void assertStatementsAtMost(long budget, Runnable action) {
+        QueryCounter.reset();
+        action.run();
+        assertThat(QueryCounter.statements())
+                .as("SQL statements executed")
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private static long headerValue(String header) {
+        assertThat(header)
+                .as("query count header; is qadevs.query-count.enabled set?")
+                .isNotNull();
+        return Long.parseLong(header);
+    }
+}